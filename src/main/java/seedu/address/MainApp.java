@@ -1,13 +1,18 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DayRolloverScheduler;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -15,7 +20,9 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,7 +30,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.CachedAddressBookStorage;
+import seedu.address.storage.DataFileConverter;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -39,12 +47,17 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 2, 2, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    /** Suffix of the copy kept of a data file that could not be read. */
+    private static final String CORRUPT_FILE_SUFFIX = ".corrupt";
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected CachedAddressBookStorage addressBookStorage;
     protected Model model;
     protected Config config;
+    protected DayRolloverScheduler dayRolloverScheduler;
+    protected Clock clock = Clock.systemDefaultZone();
 
     @Override
     public void init() throws Exception {
@@ -57,7 +70,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getHreersDatafilePath());
+        addressBookStorage = new CachedAddressBookStorage(initAddressBookStorage(userPrefs, userPrefsStorage));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -65,12 +78,45 @@ public class MainApp extends Application {
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+
+        dayRolloverScheduler = new DayRolloverScheduler(clock,
+                today -> Platform.runLater(() -> model.rollOverToDate(today)));
+    }
+
+    /**
+     * Returns the storage for the address book in the format chosen in {@code userPrefs}. <br>
+     * If the format was changed since the last run, the address book saved in the last format is converted to the
+     * chosen format first. The chosen format is then recorded in {@code userPrefs} as the last one, and saved to
+     * {@code userPrefsStorage} so that the conversion is not repeated over newer data.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Path filePath = userPrefs.getHreersDatafilePath();
+        DataFileFormat format = userPrefs.getHreersDatafileFormat();
+        Optional<DataFileFormat> lastFormat = userPrefs.getLastHreersDatafileFormat();
+        if (lastFormat.isPresent()) {
+            try {
+                DataFileConverter.convertIfFormatChanged(filePath, lastFormat.get(), format);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file saved in " + lastFormat.get() + " could not be converted to " + format
+                        + ": " + StringUtil.getDetails(e));
+                return DataFileConverter.createStorage(filePath, format);
+            }
+        }
+
+        userPrefs.setLastHreersDatafileFormat(format);
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save preferences : " + StringUtil.getDetails(e));
+        }
+        return DataFileConverter.createStorage(filePath, format);
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The unreadable data file is then copied aside first, as it is replaced on the next save.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -87,10 +133,22 @@ public class MainApp extends Application {
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty Hreers.");
+            backUpUnreadableFile(storage.getAddressBookFilePath());
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, clock);
+    }
+
+    private void backUpUnreadableFile(Path filePath) {
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
+        try {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("The unreadable data file was copied to " + backupPath);
+        } catch (IOException e) {
+            logger.warning("The unreadable data file could not be copied to " + backupPath + ": "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -172,11 +230,22 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Hreers " + MainApp.VERSION);
         ui.start(primaryStage);
+        dayRolloverScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Hreers ] =============================");
+        dayRolloverScheduler.stop();
+        try {
+            logic.flush();
+            // Lets the next launch skip parsing and validating the data file if it is not changed meanwhile
+            addressBookStorage.saveCache();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        } catch (IOException e) {
+            logger.warning("Failed to save the cache of the data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
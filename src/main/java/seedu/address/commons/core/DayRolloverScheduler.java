@@ -0,0 +1,84 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Notifies a listener whenever the date of a {@code Clock} changes, e.g. when the app is left open past midnight.
+ * The check is scheduled for the next midnight in the clock's time zone, so no polling happens during the day.
+ */
+public class DayRolloverScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(DayRolloverScheduler.class);
+
+    private final Clock clock;
+    private final Consumer<LocalDate> onRollover;
+    private final ScheduledExecutorService executor;
+    private LocalDate currentDate;
+
+    /**
+     * Creates a scheduler that passes each new date of {@code clock} to {@code onRollover}.
+     * {@code onRollover} runs on the scheduler's own thread.
+     */
+    public DayRolloverScheduler(Clock clock, Consumer<LocalDate> onRollover) {
+        this(clock, onRollover, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "day-rollover");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a scheduler that runs its checks on {@code executor}, so that tests can decide when they run.
+     */
+    DayRolloverScheduler(Clock clock, Consumer<LocalDate> onRollover, ScheduledExecutorService executor) {
+        this.clock = requireNonNull(clock);
+        this.onRollover = requireNonNull(onRollover);
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Starts watching for the next change of date.
+     */
+    public void start() {
+        currentDate = LocalDate.now(clock);
+        scheduleNextCheck();
+    }
+
+    /**
+     * Stops watching for changes of date. The scheduler cannot be restarted afterwards.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleNextCheck() {
+        Instant nextMidnight = currentDate.plusDays(1).atStartOfDay(clock.getZone()).toInstant();
+        long delayMillis = Math.max(0, Duration.between(clock.instant(), nextMidnight).toMillis());
+        executor.schedule(this::checkDate, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void checkDate() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(currentDate)) {
+            logger.info("Date changed from " + currentDate + " to " + today);
+            currentDate = today;
+            try {
+                onRollover.accept(today);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to handle change of date: " + e.getMessage());
+            }
+        }
+        // Timers may fire slightly early, in which case this simply waits for the remaining time
+        scheduleNextCheck();
+    }
+}
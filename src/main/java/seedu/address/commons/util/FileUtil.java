@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +83,83 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is renamed into place, so that the app never leaves the file half written, but it is not forced
+     * to the disk; use {@link #writeToFileAtomically(Path, byte[])} for files that must survive a power loss.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        replaceFile(file, out -> out.write(content.getBytes(CHARSET)), false);
+    }
+
+    /**
+     * Replaces the content of {@code file} with {@code content}, creating the file and its missing parent
+     * directories if needed. The content is written to a new temporary file next to {@code file}, forced to the
+     * disk and then renamed over {@code file}, and the rename is forced to the disk in turn, so a crash at any point
+     * leaves either the old or the new content.
+     */
+    public static void writeToFileAtomically(Path file, byte[] content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content));
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code content} writes, in the same way as
+     * {@link #writeToFileAtomically(Path, byte[])}, without holding the whole content in memory.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter content) throws IOException {
+        replaceFile(file, content, true);
+    }
+
+    private static void replaceFile(Path file, ContentWriter content, boolean isForced) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        // A name of its own, so that concurrent writes of the same file cannot mix their content
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                // The stream is not closed, as that would close the channel before it is forced
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                content.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        if (isForced) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to the disk.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open a directory, and persist renames without this
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -24,6 +24,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until every change made so far has been saved to the data file.
+     * @throws CommandException If the latest save failed and has not been reported by {@link #execute} yet.
+     */
+    void flush() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +16,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
@@ -22,6 +24,7 @@ import seedu.address.model.person.EmployeeId;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -35,24 +38,32 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model}, saving to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindAddressBookSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, saving through {@code saver}.
+     */
+    public LogicManager(Model model, WriteBehindAddressBookSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("initiating data validity scan before command execution");
-        List<Pair<EmployeeId, EmployeeId>> conflictingPairs = EmployeeIdPrefixValidationUtils
-                .getPrefixConflictingPairs(model.getFilteredEmployeeList());
-        if (conflictingPairs.size() > 1) {
+        logger.info("checking data validity before command execution");
+        if (model.getEmployeeIdPrefixConflictCount() > 1) {
+            // Only walk the data to describe the conflicts once we know there are some
+            List<Pair<EmployeeId, EmployeeId>> conflictingPairs = EmployeeIdPrefixValidationUtils
+                    .getPrefixConflictingPairs(model.getAddressBook().getEmployeeList());
             CommandResult commandResult = new CommandResult(String.format(
                     "Data integrity error: Employee IDs have conflicting prefixes."
                             + " Please resolve this issue before proceeding. \n"
@@ -63,21 +74,43 @@ public class LogicManager implements Logic {
         }
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        Optional<IOException> saveFailure = saver.pollFailure();
+        if (saveFailure.isPresent()) {
+            // Try again with the current data, which includes every change the failed write would have saved
+            saver.submit(new AddressBook(model.getAddressBook()), model.getAddressBookVersion());
+            throw toCommandException(saveFailure.get());
+        }
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        model.refreshToday();
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long version = model.getAddressBookVersion();
+        if (!command.isReadOnly() && version != saver.getSubmittedVersion()) {
+            // The copy shares its structure with the model's address book, so taking it is cheap
+            saver.submit(new AddressBook(model.getAddressBook()), version);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flush() throws CommandException {
+        try {
+            saver.flush();
+        } catch (IOException e) {
+            throw toCommandException(e);
+        }
+    }
+
+    private static CommandException toCommandException(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
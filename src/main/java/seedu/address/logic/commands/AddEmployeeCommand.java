@@ -76,8 +76,9 @@ public class AddEmployeeCommand extends Command {
 
         //Save the state before any potential changes
         model.commitChanges();
+        LocalDate today = model.getToday();
         boolean isAnyAnniAfterToday = toAdd.getAnniversaries().stream()
-                .anyMatch(anniversary -> anniversary.getDate().isAfter(LocalDate.now()));
+                .anyMatch(anniversary -> anniversary.getDate().isAfter(today));
 
         model.addEmployee(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -35,16 +34,16 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Employee> matchedEmployees = model.getFullFilteredByEmployeeIdPrefixListFromData(employeeIdPrefix);
+        int matchCount = model.countEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
 
-        if (matchedEmployees.size() > 1) {
+        if (matchCount > 1) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX,
                     employeeIdPrefix
             ));
         }
 
-        if (matchedEmployees.isEmpty()) {
+        if (matchCount == 0) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND,
                     employeeIdPrefix
@@ -54,7 +53,7 @@ public class DeleteCommand extends Command {
         // Save the state before any potential changes
         model.commitChanges();
 
-        Employee employeeToDelete = matchedEmployees.get(0);
+        Employee employeeToDelete = model.getUniqueEmployeeWithEmployeeIdPrefix(employeeIdPrefix).get();
         model.deleteEmployee(employeeToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_EMPLOYEE_SUCCESS, Messages.format(employeeToDelete)));
     }
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.HistoryUsage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Reports how many changes can be undone and redone, and how much memory the undo history uses.
+ */
+public class HistoryCommand extends Command {
+    public static final String COMMAND_WORD = "history";
+    public static final String MESSAGE_SUCCESS = "Changes that can be undone: %1$d (%2$d kept on disk)\n"
+            + "Changes that can be redone: %3$d\n"
+            + "Memory used: about %4$s of %5$s, holding %6$d of at most %7$d changes\n"
+            + "Disk used: %8$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        ModelManager modelManager = (ModelManager) model;
+        HistoryUsage usage = modelManager.getHistoryUsage();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, usage.undoDepth(), usage.undoStepsOnDisk(),
+                usage.redoSteps(), formatBytes(usage.memoryBytes()), formatBytes(usage.maxBytes()),
+                usage.undoStepsInMemory() + usage.redoSteps(), usage.maxEntries(), formatBytes(usage.diskBytes())));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns {@code bytes} in the largest unit in which it is at least one, with one decimal place.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KiB", "MiB", "GiB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", value, units[unit]);
+    }
+}
@@ -6,19 +6,59 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EMPLOYEES;
 import seedu.address.model.Model;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, optionally ordered by their next upcoming date.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String UPCOMING_KEYWORD = "upcoming";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    public static final String MESSAGE_SUCCESS_UPCOMING = "Listed all persons by their next upcoming date";
+
+    private final boolean isSortedByUpcomingDate;
+
+    /**
+     * Creates a ListCommand that lists all persons in address book order.
+     */
+    public ListCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a ListCommand that lists all persons, ordered by their next upcoming date if
+     * {@code isSortedByUpcomingDate} is true.
+     */
+    public ListCommand(boolean isSortedByUpcomingDate) {
+        this.isSortedByUpcomingDate = isSortedByUpcomingDate;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
-        return new CommandResult(MESSAGE_SUCCESS);
+        model.setEmployeeListSortedByUpcomingDate(isSortedByUpcomingDate);
+        return new CommandResult(isSortedByUpcomingDate ? MESSAGE_SUCCESS_UPCOMING : MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return isSortedByUpcomingDate == otherListCommand.isSortedByUpcomingDate;
     }
 }
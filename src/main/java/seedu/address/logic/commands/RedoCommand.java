@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Represents a command to redo the most recently undone operation in the address book.
+ * Making a new change to the address book after an undo discards the operations that could be redone.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo successful!";
+    public static final String MESSAGE_FAILURE = "No redo available!";
+
+    /**
+     * Executes the redo command to reapply the most recently undone change to the address book.
+     * If a redo operation is available, it will be executed. Otherwise, a failure message is returned.
+     *
+     * @param model The model containing the address book data.
+     * @return A CommandResult object indicating the result of the redo operation.
+     * @throws CommandException If there is an error while executing the command.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        ModelManager modelManager = (ModelManager) model;
+        if (modelManager.canRedoAddressBook()) {
+            modelManager.redoAddressBook();
+            return new CommandResult(MESSAGE_SUCCESS);
+        } else {
+            return new CommandResult(MESSAGE_FAILURE);
+        }
+    }
+
+}
@@ -2,35 +2,116 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.reminder.Reminder;
 
 /**
- * Filters and shows upcoming anniversaries (birthdays, work, or custom) within the next few days.
+ * Filters and shows upcoming anniversaries (birthdays, work, or custom) within the next few days,
+ * or within a given date range.
  */
 public class ReminderCommand extends Command {
     public static final String COMMAND_WORD = "reminder";
+    /** The longest window, in days, that a reminder listing may cover */
+    public static final int MAX_REMINDER_DAYS = 366;
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Displays a list of upcoming anniversaries (within 3 days).\n"
-            + "Example: " + COMMAND_WORD;
+            + ": Displays a list of upcoming anniversaries (within " + Model.DEFAULT_REMINDER_DAYS_AHEAD
+            + " days by default).\n"
+            + "Parameters: [d/DAYS] or [from/START_DATE to/END_DATE]\n"
+            + "DAYS is at most " + MAX_REMINDER_DAYS + ", and dates are in YYYY-MM-DD format.\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " d/30\n"
+            + "Example: " + COMMAND_WORD + " from/2026-12-01 to/2027-01-31";
 
     public static final String MESSAGE_SUCCESS = "Displayed employees with upcoming anniversaries! \n"
-            + "Only employees with anniversaries upcoming within 3 days will appear on the panel.";
+            + "Only employees with anniversaries upcoming within %1$d days will appear on the panel.";
+    public static final String MESSAGE_SUCCESS_RANGE = "Displayed employees with upcoming anniversaries! \n"
+            + "Only employees with anniversaries from %1$s to %2$s will appear on the panel.";
 
     private final Logger logger = LogsCenter.getLogger(ReminderCommand.class);
 
+    private final int daysAhead;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a ReminderCommand that shows the anniversaries within the default number of days.
+     */
+    public ReminderCommand() {
+        this(Model.DEFAULT_REMINDER_DAYS_AHEAD);
+    }
+
+    /**
+     * Creates a ReminderCommand that shows the anniversaries from today to {@code daysAhead} days later.
+     */
+    public ReminderCommand(int daysAhead) {
+        this.daysAhead = daysAhead;
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates a ReminderCommand that shows the anniversaries from {@code from} to {@code to}, both inclusive.
+     */
+    public ReminderCommand(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.daysAhead = -1;
+        this.from = from;
+        this.to = to;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateReminderList();
+        String message;
+        if (from == null) {
+            model.updateReminderList(daysAhead);
+            message = String.format(MESSAGE_SUCCESS, daysAhead);
+        } else {
+            model.updateReminderList(from, to);
+            message = String.format(MESSAGE_SUCCESS_RANGE, from, to);
+        }
         List<Reminder> reminders = model.getReminderList();
 
         logger.fine("Reminder list contains " + reminders.size() + " items.");
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReminderCommand)) {
+            return false;
+        }
+
+        ReminderCommand otherReminderCommand = (ReminderCommand) other;
+        return daysAhead == otherReminderCommand.daysAhead
+                && Objects.equals(from, otherReminderCommand.from)
+                && Objects.equals(to, otherReminderCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("daysAhead", daysAhead)
+                .add("from", from)
+                .add("to", to)
+                .toString();
     }
 }
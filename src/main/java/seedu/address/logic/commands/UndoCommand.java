@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -12,6 +13,8 @@ public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
     public static final String MESSAGE_SUCCESS = "Undo successful!";
     public static final String MESSAGE_FAILURE = "No undo available!";
+    public static final String MESSAGE_HISTORY_LOST = "Could not read back the older changes from disk, "
+            + "so they can no longer be undone!";
 
     /**
      * Executes the undo command to revert the most recent change to the address book.
@@ -19,13 +22,17 @@ public class UndoCommand extends Command {
      *
      * @param model The model containing the address book data.
      * @return A CommandResult object indicating the result of the undo operation.
-     * @throws CommandException If there is an error while executing the command.
+     * @throws CommandException If the change to undo was moved to disk and cannot be read back.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         ModelManager modelManager = (ModelManager) model;
         if (modelManager.canUndoAddressBook()) {
-            modelManager.undoAddressBook();
+            try {
+                modelManager.undoAddressBook();
+            } catch (DataLoadingException e) {
+                throw new CommandException(MESSAGE_HISTORY_LOST, e);
+            }
             return new CommandResult(MESSAGE_SUCCESS);
         } else {
             return new CommandResult(MESSAGE_FAILURE);
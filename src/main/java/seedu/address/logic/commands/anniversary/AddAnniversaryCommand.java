@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE_DESC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -67,24 +66,23 @@ public class AddAnniversaryCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.commitChanges();
-        List<Employee> matchedEmployees = model.getFullFilteredByEmployeeIdPrefixListFromData(employeeIdPrefix);
+        int matchCount = model.countEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
 
-        if (matchedEmployees.size() > 1) {
+        if (matchCount > 1) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX,
                     employeeIdPrefix
             ));
         }
 
-        if (matchedEmployees.isEmpty()) {
+        if (matchCount == 0) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND,
                     employeeIdPrefix
             ));
         }
 
-        Employee employeeToEdit = matchedEmployees.get(0);
+        Employee employeeToEdit = model.getUniqueEmployeeWithEmployeeIdPrefix(employeeIdPrefix).get();
 
         // Check if the same anniversary already exists
         boolean duplicate = employeeToEdit.getAnniversaries().stream()
@@ -115,7 +113,7 @@ public class AddAnniversaryCommand extends Command {
 
         // update the model
         model.setEmployee(employeeToEdit, updatedEmployee);
-        boolean isAnniAfterToday = (toAdd.getDate().isAfter(LocalDate.now()));
+        boolean isAnniAfterToday = (toAdd.getDate().isAfter(model.getToday()));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)
                 + (isAnniAfterToday ? "\n" + MESSAGE_WARNING_ANNI_AFTER_TODAY : ""), true,
                 updatedEmployee.getEmployeeIdAsString());
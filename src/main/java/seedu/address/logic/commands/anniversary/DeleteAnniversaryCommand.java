@@ -49,24 +49,23 @@ public class DeleteAnniversaryCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.commitChanges();
-        List<Employee> matchedEmployees = model.getFullFilteredByEmployeeIdPrefixListFromData(employeeIdPrefix);
+        int matchCount = model.countEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
 
-        if (matchedEmployees.size() > 1) {
+        if (matchCount > 1) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX,
                     employeeIdPrefix
             ));
         }
 
-        if (matchedEmployees.isEmpty()) {
+        if (matchCount == 0) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND,
                     employeeIdPrefix
             ));
         }
 
-        Employee employeeToEdit = matchedEmployees.get(0);
+        Employee employeeToEdit = model.getUniqueEmployeeWithEmployeeIdPrefix(employeeIdPrefix).get();
         List<Anniversary> anniversaryList = employeeToEdit.getAnniversaries();
 
         if (targetIndex.getZeroBased() >= anniversaryList.size()) {
@@ -62,6 +62,11 @@ public class ShowAnniversaryCommand extends Command {
                 foundUserEmployeeId);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
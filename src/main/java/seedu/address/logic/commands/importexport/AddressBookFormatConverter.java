@@ -3,6 +3,7 @@ package seedu.address.logic.commands.importexport;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,6 +17,7 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
+import seedu.address.storage.DataFileChecksum;
 import seedu.address.storage.JsonCsvConverter;
 import seedu.address.storage.JsonSerializableAddressBook;
 import seedu.address.storage.QueryValidator;
@@ -80,9 +82,10 @@ public class AddressBookFormatConverter {
             if (Files.size(filePath) == 0) {
                 throw new CommandException("The JSON file is empty. Please provide a valid file.");
             }
-            return JsonUtil
-                    .readJsonFile(filePath, JsonSerializableAddressBook.class)
-                    .orElseThrow(() -> new CommandException("The JSON file could not be read or was invalid."));
+            // A copy of the data file ends in a checksum line, which is not JSON
+            byte[] content = DataFileChecksum.verifyAndStrip(Files.readAllBytes(filePath));
+            return JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8),
+                    JsonSerializableAddressBook.class);
         } catch (IOException | DataLoadingException e) {
             throw new CommandException("Failed to read the file: the json file is invalid or corrupted.");
         }
@@ -62,4 +62,9 @@ public class ExportCommand extends Command {
         return new CommandResult("Exported " + displayedPeople.size() + " employees in " + filetype
                 + " format to " + pathString);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
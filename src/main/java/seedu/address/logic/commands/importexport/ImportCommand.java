@@ -27,6 +27,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -200,8 +201,8 @@ public class ImportCommand extends Command {
                 model.addEmployee(employeeToImport);
                 importedEmployees.add(employeeToImport);
             } else if (matchInModel.hasSameDetails(employeeToImport)) {
-                // Matching employee exists with same details – merge anniversary lists.
-                mergeAnniversaries(matchInModel, employeeToImport);
+                // Matching employee exists with same details – replace it with one holding both anniversary lists.
+                model.setEmployee(matchInModel, mergeAnniversaries(matchInModel, employeeToImport));
                 importedEmployees.add(employeeToImport);
             } else {
                 // Conflict with an existing model record.
@@ -239,7 +240,7 @@ public class ImportCommand extends Command {
                     conflictEmployeeIds.add(employeeId);
                 } else {
                     // Same details: merge anniversary lists.
-                    mergeAnniversaries(existing, employee);
+                    aggregated.put(employeeId, mergeAnniversaries(existing, employee));
                 }
             } else if (conflictEmployeeIds.contains(employeeId)) {
                 // Already flagged as conflict; do nothing.
@@ -266,10 +267,14 @@ public class ImportCommand extends Command {
     }
 
     /**
-     * Merges the anniversaries from the source employee into the target employee.
+     * Returns a copy of the target employee with the anniversaries of the source employee added to its own.
+     * The target is left unchanged, as it may be held by the model, the undo history or a background save.
      */
-    private void mergeAnniversaries(Employee target, Employee source) {
-        target.getAnniversaries().addAll(source.getAnniversaries());
+    private Employee mergeAnniversaries(Employee target, Employee source) {
+        List<Anniversary> anniversaries = new ArrayList<>(target.getAnniversaries());
+        anniversaries.addAll(source.getAnniversaries());
+        return new Employee(target.getEmployeeId(), target.getName(), target.getPhone(), target.getEmail(),
+                target.getJobPosition(), target.getTags(), anniversaries);
     }
 
     /**
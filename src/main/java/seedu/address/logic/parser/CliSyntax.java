@@ -30,4 +30,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_FILENAME = new Prefix("fn/");
     public static final Prefix PREFIX_FILETYPE = new Prefix("ft/");
     public static final Prefix PREFIX_WRITE_MODE = new Prefix("wm/");
+
+    /* Prefix definitions for reminders */
+    public static final Prefix PREFIX_REMINDER_DAYS = new Prefix("d/");
+    public static final Prefix PREFIX_REMINDER_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_REMINDER_TO = new Prefix("to/");
 }
@@ -0,0 +1,20 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.ListCommand;
+
+/**
+ * Parses input arguments and creates a new ListCommand object.
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * The list is ordered by upcoming date only if the arguments are the word {@code upcoming};
+     * any other arguments are ignored, as they were before the ordering existed.
+     */
+    @Override
+    public ListCommand parse(String args) {
+        return new ListCommand(args.trim().equalsIgnoreCase(ListCommand.UPCOMING_KEYWORD));
+    }
+}
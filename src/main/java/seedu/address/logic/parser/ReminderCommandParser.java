@@ -1,5 +1,14 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER_TO;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
 import seedu.address.logic.commands.ReminderCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -8,12 +17,61 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ReminderCommandParser implements Parser<ReminderCommand> {
 
+    public static final String MESSAGE_INVALID_DAYS = "Number of days must be an integer from 0 to "
+            + ReminderCommand.MAX_REMINDER_DAYS + ".";
+    public static final String MESSAGE_INVALID_DATE = "Reminder dates must be in YYYY-MM-DD format.";
+    public static final String MESSAGE_INVALID_RANGE = "The end date must not be before the start date, "
+            + "and the range must span at most " + ReminderCommand.MAX_REMINDER_DAYS + " days.";
+
     /**
      * Parses the given {@code String} of arguments and returns a ReminderCommand object.
-     * Ignores any arguments provided.
+     * Any text before the first prefix is ignored.
+     *
+     * @throws ParseException if the days or dates given are invalid, or if both forms are mixed.
      */
     public ReminderCommand parse(String args) throws ParseException {
-        return new ReminderCommand();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_REMINDER_DAYS, PREFIX_REMINDER_FROM, PREFIX_REMINDER_TO);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_REMINDER_DAYS, PREFIX_REMINDER_FROM, PREFIX_REMINDER_TO);
+
+        boolean hasDays = argMultimap.getValue(PREFIX_REMINDER_DAYS).isPresent();
+        boolean hasFrom = argMultimap.getValue(PREFIX_REMINDER_FROM).isPresent();
+        boolean hasTo = argMultimap.getValue(PREFIX_REMINDER_TO).isPresent();
+
+        if (!hasDays && !hasFrom && !hasTo) {
+            return new ReminderCommand();
+        }
+        if (hasDays && !hasFrom && !hasTo) {
+            return new ReminderCommand(parseDays(argMultimap.getValue(PREFIX_REMINDER_DAYS).get()));
+        }
+        if (!hasDays && hasFrom && hasTo) {
+            LocalDate from = parseDate(argMultimap.getValue(PREFIX_REMINDER_FROM).get());
+            LocalDate to = parseDate(argMultimap.getValue(PREFIX_REMINDER_TO).get());
+            if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= ReminderCommand.MAX_REMINDER_DAYS) {
+                throw new ParseException(MESSAGE_INVALID_RANGE);
+            }
+            return new ReminderCommand(from, to);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderCommand.MESSAGE_USAGE));
+    }
+
+    private static int parseDays(String days) throws ParseException {
+        String trimmedDays = days.trim();
+        if (!trimmedDays.matches("\\d{1,3}")) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        int parsedDays = Integer.parseInt(trimmedDays);
+        if (parsedDays > ReminderCommand.MAX_REMINDER_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return parsedDays;
     }
-}
 
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+}
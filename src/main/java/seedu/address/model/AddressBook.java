@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -51,10 +52,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is itself an {@code AddressBook}, the two share their structure and this takes
+     * constant time; later changes to either address book do not affect the other.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setEmployees(newData.getEmployeeList());
+        if (newData instanceof AddressBook) {
+            employees.setPersons(((AddressBook) newData).employees);
+        } else {
+            setEmployees(newData.getEmployeeList());
+        }
     }
 
     //// employee-level operations
@@ -97,6 +104,45 @@ public class AddressBook implements ReadOnlyAddressBook {
         return employees.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    /**
+     * Returns the number of pairs of employees whose employee IDs conflict by prefix.
+     */
+    public long getEmployeeIdPrefixConflictCount() {
+        return employees.getEmployeeIdPrefixConflictCount();
+    }
+
+    /**
+     * Returns all employees whose employee ID starts with {@code employeeIdPrefix}.
+     */
+    public List<Employee> getEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.getEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns the employee whose employee ID is exactly {@code employeeId}, if there is one.
+     */
+    public Optional<Employee> getEmployee(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return employees.getEmployee(employeeId);
+    }
+
+    /**
+     * Returns the number of employees whose employee ID starts with {@code employeeIdPrefix}.
+     */
+    public int countEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.countEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns the only employee whose employee ID starts with {@code employeeIdPrefix}, if there is exactly one.
+     */
+    public Optional<Employee> getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.getUniqueEmployeeWithEmployeeIdPrefix(employeeIdPrefix);
+    }
+
     /**
      * Adds a employee to the address book.
      * The employee must not already exist in the address book.
@@ -105,6 +151,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         employees.add(p);
     }
 
+    /**
+     * Inserts a employee at {@code index} in the address book.
+     * The employee must not already exist in the address book.
+     */
+    public void addPerson(int index, Employee p) {
+        employees.add(index, p);
+    }
+
+    /**
+     * Returns the position of {@code employee} in the employee list, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Employee employee) {
+        requireNonNull(employee);
+        return employees.indexOf(employee);
+    }
+
     /**
      * Replaces the given employee {@code target} in the list with {@code editedEmployee}.
      * {@code target} must exist in the address book.
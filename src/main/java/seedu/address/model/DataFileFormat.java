@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book can be saved in.
+ */
+public enum DataFileFormat {
+    /** A human-readable JSON file, with a journal of recent changes next to it. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and faster to load but cannot be edited by hand. */
+    BINARY,
+    /** JSON files that each hold a share of the employees, so that an edit rewrites only the files it touches. */
+    SHARDED
+}
@@ -0,0 +1,454 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.EmployeeBinaryCodec;
+
+/**
+ * Records the changes made to an address book as a log of reversible edits, grouped into undoable steps.
+ *
+ * Each edit only holds the employees it touched, so beginning a step is O(1), undoing or redoing a step costs
+ * time proportional to the number of edits in it, and the memory used grows with the changes made rather than
+ * with the size of the address book.
+ *
+ * The steps held in memory are kept within a budget of steps and of estimated bytes. When the budget is
+ * exceeded, the oldest undo steps are compressed and moved to a temporary file, from which they are read back
+ * once every newer step has been undone.
+ */
+class EditHistory {
+
+    /**
+     * Applies the edits of this history to an address book.
+     */
+    interface Target {
+        /** Inserts {@code employee} at {@code index} in the employee list. */
+        void insertEmployee(int index, Employee employee);
+
+        /** Removes {@code employee}, which must be in the employee list. */
+        void removeEmployee(Employee employee);
+
+        /** Replaces {@code target}, which must be in the employee list, with {@code editedEmployee}. */
+        void replaceEmployee(Employee target, Employee editedEmployee);
+
+        /** Replaces the whole address book with the contents of {@code addressBook}. */
+        void replaceAddressBook(ReadOnlyAddressBook addressBook);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(EditHistory.class);
+
+    /** Rough number of bytes taken by an employee apart from its strings, tags and anniversaries. */
+    private static final long EMPLOYEE_OVERHEAD_BYTES = 200;
+    private static final long TAG_OVERHEAD_BYTES = 60;
+    private static final long ANNIVERSARY_OVERHEAD_BYTES = 150;
+    /** Rough number of bytes taken by an edit and its step's bookkeeping, apart from the employees it holds. */
+    private static final long EDIT_OVERHEAD_BYTES = 64;
+    /**
+     * Rough number of bytes taken by an address book snapshot that shares its structure with a live address
+     * book, apart from the employees it shares.
+     */
+    private static final long SHARED_SNAPSHOT_BYTES = 128;
+
+    private static final byte INSERTION = 0;
+    private static final byte REMOVAL = 1;
+    private static final byte REPLACEMENT = 2;
+    private static final byte REPLACEMENT_OF_ALL = 3;
+
+    /** The steps that can be undone and are held in memory, the most recent first. */
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    /** The steps that can be redone, the most recently undone first. */
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    /** The undo steps older than those in {@code undoSteps}, the most recent on top. */
+    private final EditHistorySpillFile spilledSteps = new EditHistorySpillFile();
+
+    private int maxEntries;
+    private long maxBytes;
+    /** The estimated number of bytes taken by the steps held in memory. */
+    private long memoryBytes;
+
+    /**
+     * Creates an empty history that holds at most {@code maxEntries} steps, taking an estimated
+     * {@code maxBytes} bytes, in memory.
+     */
+    EditHistory(int maxEntries, long maxBytes) {
+        setBudget(maxEntries, maxBytes);
+    }
+
+    /**
+     * Changes the number of steps and of estimated bytes that may be held in memory, moving the oldest steps
+     * to disk at once if they no longer fit.
+     */
+    void setBudget(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 0) {
+            throw new IllegalArgumentException("History budget must allow at least one step");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        enforceBudget();
+    }
+
+    /**
+     * Starts a new undoable step, to which the edits recorded from now on belong.
+     * If the current step has no edits yet, it is reused instead.
+     */
+    void beginStep() {
+        if (undoSteps.isEmpty() || !undoSteps.peek().edits.isEmpty()) {
+            undoSteps.push(new Step());
+            memoryBytes += EDIT_OVERHEAD_BYTES;
+            enforceBudget();
+        }
+    }
+
+    /**
+     * Records the insertion of {@code employee} at {@code index}.
+     */
+    void recordInsertion(int index, Employee employee) {
+        record(new Edit(INSERTION, index, null, employee));
+    }
+
+    /**
+     * Records the removal of {@code employee} from {@code index}.
+     */
+    void recordRemoval(int index, Employee employee) {
+        record(new Edit(REMOVAL, index, employee, null));
+    }
+
+    /**
+     * Records the replacement of {@code before} with {@code after}.
+     */
+    void recordReplacement(Employee before, Employee after) {
+        record(new Edit(REPLACEMENT, 0, before, after));
+    }
+
+    /**
+     * Records the replacement of the whole address book {@code before} with {@code after}.
+     * Both are kept as snapshots, which share their structure with the address books they are taken from.
+     */
+    void recordReplacementOfAll(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        record(new Edit(new AddressBook(before), new AddressBook(after), true));
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || spilledSteps.size() > 0;
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the edits of the most recent step on {@code target}, latest first.
+     * If every step held in memory has been undone, the most recent step on disk is read back first.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     * @throws DataLoadingException if the step on disk cannot be read back, in which case every step on disk is
+     *     dropped and nothing is undone.
+     */
+    void undo(Target target) throws DataLoadingException {
+        requireNonNull(target);
+        if (!canUndo()) {
+            throw new IllegalStateException("No step to undo");
+        }
+        if (undoSteps.isEmpty()) {
+            Step step = unspill();
+            undoSteps.push(step);
+            memoryBytes += step.estimatedBytes;
+        }
+
+        Step step = undoSteps.pop();
+        for (int i = step.edits.size() - 1; i >= 0; i--) {
+            step.edits.get(i).undo(target);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Reapplies the edits of the most recently undone step on {@code target}, earliest first.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redo(Target target) {
+        requireNonNull(target);
+        if (!canRedo()) {
+            throw new IllegalStateException("No step to redo");
+        }
+        Step step = redoSteps.pop();
+        step.edits.forEach(edit -> edit.redo(target));
+        undoSteps.push(step);
+        enforceBudget();
+    }
+
+    /**
+     * Returns the current depth and memory use of this history.
+     */
+    HistoryUsage getUsage() {
+        return new HistoryUsage(undoSteps.size(), spilledSteps.size(), redoSteps.size(), memoryBytes,
+                spilledSteps.sizeInBytes(), maxEntries, maxBytes);
+    }
+
+    /**
+     * Adds {@code edit} to the current step. A new edit makes the undone steps unreachable, so they are dropped.
+     * Edits made before any step has begun cannot be undone and are not recorded.
+     */
+    private void record(Edit edit) {
+        redoSteps.forEach(step -> memoryBytes -= step.estimatedBytes);
+        redoSteps.clear();
+        if (undoSteps.isEmpty()) {
+            return;
+        }
+        Step step = undoSteps.peek();
+        step.edits.add(edit);
+        long editBytes = edit.estimateBytes();
+        step.estimatedBytes += editBytes;
+        memoryBytes += editBytes;
+        enforceBudget();
+    }
+
+    /**
+     * Moves the oldest undo steps to disk until the steps in memory fit the budget.
+     * The current step always stays in memory, since edits may still be added to it.
+     */
+    private void enforceBudget() {
+        while (undoSteps.size() > 1
+                && (undoSteps.size() + redoSteps.size() > maxEntries || memoryBytes > maxBytes)) {
+            Step oldest = undoSteps.pollLast();
+            memoryBytes -= oldest.estimatedBytes;
+            try {
+                spilledSteps.push(encode(oldest));
+            } catch (IOException e) {
+                // Steps older than this one can no longer be reached in order, so they are dropped as well
+                logger.warning("Could not move undo history to disk, dropping the oldest steps: " + e.getMessage());
+                spilledSteps.clear();
+            }
+        }
+    }
+
+    /**
+     * Reads back the most recent step on disk, dropping every step on disk if it cannot be read.
+     */
+    private Step unspill() throws DataLoadingException {
+        try {
+            return decode(spilledSteps.pop());
+        } catch (IOException e) {
+            logger.warning("Could not read undo history from disk, dropping the oldest steps: " + e.getMessage());
+            spilledSteps.clear();
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static byte[] encode(Step step) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(step.edits.size());
+            for (Edit edit : step.edits) {
+                edit.write(out);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Step decode(byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(record)))) {
+            Step step = new Step();
+            int editCount = in.readInt();
+            for (int i = 0; i < editCount; i++) {
+                Edit edit = Edit.read(in);
+                step.edits.add(edit);
+                step.estimatedBytes += edit.estimateBytes();
+            }
+            return step;
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes taken by {@code employee}.
+     */
+    private static long estimateBytes(Employee employee) {
+        if (employee == null) {
+            return 0;
+        }
+        long bytes = EMPLOYEE_OVERHEAD_BYTES + 2L * (employee.getEmployeeId().value.length()
+                + employee.getName().fullName.length() + employee.getPhone().value.length()
+                + employee.getEmail().value.length() + employee.getJobPosition().value.length());
+        for (Tag tag : employee.getTags()) {
+            bytes += TAG_OVERHEAD_BYTES + 2L * tag.tagName.length();
+        }
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            bytes += ANNIVERSARY_OVERHEAD_BYTES + 2L * (lengthOf(anniversary.getName())
+                    + lengthOf(anniversary.getDescription()));
+        }
+        return bytes;
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * The edits that one command made, with their estimated size in bytes.
+     */
+    private static class Step {
+        private final List<Edit> edits = new ArrayList<>();
+        private long estimatedBytes = EDIT_OVERHEAD_BYTES;
+    }
+
+    /**
+     * A single change, holding what is needed to revert and reapply it.
+     */
+    private static class Edit {
+        private final byte kind;
+        private final int index;
+        private final Employee before;
+        private final Employee after;
+        private final AddressBook addressBookBefore;
+        private final AddressBook addressBookAfter;
+        /** Whether the address book snapshots share their employees with the address books they were taken from. */
+        private final boolean isSharingSnapshots;
+
+        Edit(byte kind, int index, Employee before, Employee after) {
+            this.kind = kind;
+            this.index = index;
+            this.before = before;
+            this.after = after;
+            this.addressBookBefore = null;
+            this.addressBookAfter = null;
+            this.isSharingSnapshots = false;
+        }
+
+        Edit(AddressBook addressBookBefore, AddressBook addressBookAfter, boolean isSharingSnapshots) {
+            this.kind = REPLACEMENT_OF_ALL;
+            this.index = 0;
+            this.before = null;
+            this.after = null;
+            this.addressBookBefore = addressBookBefore;
+            this.addressBookAfter = addressBookAfter;
+            this.isSharingSnapshots = isSharingSnapshots;
+        }
+
+        void undo(Target target) {
+            switch (kind) {
+            case INSERTION:
+                target.removeEmployee(after);
+                break;
+            case REMOVAL:
+                target.insertEmployee(index, before);
+                break;
+            case REPLACEMENT:
+                target.replaceEmployee(after, before);
+                break;
+            default:
+                target.replaceAddressBook(addressBookBefore);
+            }
+        }
+
+        void redo(Target target) {
+            switch (kind) {
+            case INSERTION:
+                target.insertEmployee(index, after);
+                break;
+            case REMOVAL:
+                target.removeEmployee(before);
+                break;
+            case REPLACEMENT:
+                target.replaceEmployee(before, after);
+                break;
+            default:
+                target.replaceAddressBook(addressBookAfter);
+            }
+        }
+
+        /**
+         * Returns a rough estimate of the number of bytes held by this edit. An address book snapshot that shares
+         * its structure with the address book it was taken from is counted by reference, in constant time, rather
+         * than by walking its employees. How many such snapshots are held is bounded by the number of steps.
+         */
+        long estimateBytes() {
+            if (kind != REPLACEMENT_OF_ALL) {
+                return EDIT_OVERHEAD_BYTES + EditHistory.estimateBytes(before) + EditHistory.estimateBytes(after);
+            }
+            if (isSharingSnapshots) {
+                return EDIT_OVERHEAD_BYTES + 2 * SHARED_SNAPSHOT_BYTES;
+            }
+            // Address books read back from disk share nothing, so they are counted in full
+            long bytes = EDIT_OVERHEAD_BYTES;
+            for (Employee employee : addressBookBefore.getEmployeeList()) {
+                bytes += EditHistory.estimateBytes(employee);
+            }
+            for (Employee employee : addressBookAfter.getEmployeeList()) {
+                bytes += EditHistory.estimateBytes(employee);
+            }
+            return bytes;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeByte(kind);
+            if (kind == REPLACEMENT_OF_ALL) {
+                writeAddressBook(out, addressBookBefore);
+                writeAddressBook(out, addressBookAfter);
+                return;
+            }
+            out.writeInt(index);
+            writeNullableEmployee(out, before);
+            writeNullableEmployee(out, after);
+        }
+
+        static Edit read(DataInputStream in) throws IOException {
+            byte kind = in.readByte();
+            if (kind == REPLACEMENT_OF_ALL) {
+                AddressBook addressBookBefore = readAddressBook(in);
+                AddressBook addressBookAfter = readAddressBook(in);
+                return new Edit(addressBookBefore, addressBookAfter, false);
+            }
+            int index = in.readInt();
+            Employee before = readNullableEmployee(in);
+            Employee after = readNullableEmployee(in);
+            return new Edit(kind, index, before, after);
+        }
+
+        private static void writeNullableEmployee(DataOutputStream out, Employee employee) throws IOException {
+            out.writeBoolean(employee != null);
+            if (employee != null) {
+                EmployeeBinaryCodec.write(out, employee);
+            }
+        }
+
+        private static Employee readNullableEmployee(DataInputStream in) throws IOException {
+            return in.readBoolean() ? EmployeeBinaryCodec.read(in) : null;
+        }
+
+        private static void writeAddressBook(DataOutputStream out, AddressBook addressBook) throws IOException {
+            out.writeInt(addressBook.getEmployeeList().size());
+            for (Employee employee : addressBook.getEmployeeList()) {
+                EmployeeBinaryCodec.write(out, employee);
+            }
+        }
+
+        private static AddressBook readAddressBook(DataInputStream in) throws IOException {
+            int employeeCount = in.readInt();
+            List<Employee> employees = new ArrayList<>(employeeCount);
+            for (int i = 0; i < employeeCount; i++) {
+                employees.add(EmployeeBinaryCodec.read(in));
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            return addressBook;
+        }
+    }
+}
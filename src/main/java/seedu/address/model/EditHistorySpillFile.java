@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A stack of byte records kept in a temporary file, used to hold the oldest undo steps off the heap.
+ * Records are appended to the end of the file and popped from the end, so the file never has holes.
+ * Only the offset of each record is kept in memory.
+ */
+class EditHistorySpillFile {
+
+    private Path path;
+    private RandomAccessFile file;
+    private long[] offsets = new long[16];
+    private int size;
+    /** The end of the last record, which is where the next record goes. */
+    private long length;
+
+    /**
+     * Returns the number of records in the file.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes taken by the records in the file.
+     */
+    long sizeInBytes() {
+        return length;
+    }
+
+    /**
+     * Appends {@code record} on top of the stack, creating the file on first use.
+     */
+    void push(byte[] record) throws IOException {
+        if (file == null) {
+            path = Files.createTempFile("hreers-history", ".bin");
+            path.toFile().deleteOnExit();
+            file = new RandomAccessFile(path.toFile(), "rw");
+        }
+        file.seek(length);
+        file.write(record);
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+        offsets[size++] = length;
+        length += record.length;
+    }
+
+    /**
+     * Removes and returns the record on top of the stack. The stack must not be empty.
+     */
+    byte[] pop() throws IOException {
+        assert size > 0 : "No record to pop";
+        long offset = offsets[size - 1];
+        byte[] record = new byte[(int) (length - offset)];
+        file.seek(offset);
+        file.readFully(record);
+        file.setLength(offset);
+        length = offset;
+        size--;
+        return record;
+    }
+
+    /**
+     * Removes every record and deletes the file.
+     */
+    void clear() {
+        size = 0;
+        length = 0;
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // The file is temporary and is deleted on exit anyway
+        }
+        file = null;
+        path = null;
+    }
+}
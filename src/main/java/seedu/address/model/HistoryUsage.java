@@ -0,0 +1,23 @@
+package seedu.address.model;
+
+/**
+ * The depth and memory use of the undo history at one point in time.
+ *
+ * @param undoStepsInMemory the number of steps that can be undone and are held in memory.
+ * @param undoStepsOnDisk the number of older steps that can be undone and have been moved to disk.
+ * @param redoSteps the number of steps that can be redone.
+ * @param memoryBytes the estimated number of bytes taken by the steps held in memory.
+ * @param diskBytes the number of bytes taken by the steps on disk.
+ * @param maxEntries the number of steps that may be held in memory.
+ * @param maxBytes the estimated number of bytes that the steps held in memory may take.
+ */
+public record HistoryUsage(int undoStepsInMemory, int undoStepsOnDisk, int redoSteps, long memoryBytes,
+        long diskBytes, int maxEntries, long maxBytes) {
+
+    /**
+     * Returns the number of steps that can be undone.
+     */
+    public int undoDepth() {
+        return undoStepsInMemory + undoStepsOnDisk;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -17,6 +19,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Employee> PREDICATE_SHOW_ALL_EMPLOYEES = unused -> true;
 
+    /** The number of days after today that the reminder list covers by default */
+    int DEFAULT_REMINDER_DAYS_AHEAD = 3;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -55,6 +60,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which increases whenever the address book changes,
+     * including through undo and redo.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a employee with the same identity as {@code employee} exists in the address book.
      */
@@ -87,6 +98,12 @@ public interface Model {
      */
     boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore);
 
+    /**
+     * Returns the number of pairs of employees in the address book whose employee IDs conflict by prefix.
+     * This is kept up to date as the address book changes, so it is cheap to call before every command.
+     */
+    long getEmployeeIdPrefixConflictCount();
+
     /**
      * Adds the given employee.
      * {@code employee} must not already exist in the address book.
@@ -104,6 +121,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered employee list */
     ObservableList<Employee> getFilteredEmployeeList();
 
+    /**
+     * Orders the filtered employee list by the next upcoming date of each employee if
+     * {@code isSortedByUpcomingDate} is true, or in address book order otherwise.
+     */
+    void setEmployeeListSortedByUpcomingDate(boolean isSortedByUpcomingDate);
+
     /**
      * Returns an unmodifiable view of the filtered employee list that contains only employees with id starting with
      * the provided one, from the current VIEW
@@ -116,15 +139,60 @@ public interface Model {
      */
     List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix);
 
+    /**
+     * Returns the number of employees in the full data whose employee ID starts with {@code employeeIdPrefix}.
+     */
+    int countEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix);
+
+    /**
+     * Returns the employee in the full data whose employee ID starts with {@code employeeIdPrefix},
+     * or an empty {@code Optional} if there are no or multiple such employees.
+     */
+    Optional<Employee> getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId employeeIdPrefix);
+
     /**
      * Updates the filter of the filtered employee list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEmployeeList(Predicate<Employee> predicate);
 
+    /**
+     * Marks the start of a new undoable change. The changes made from now on until the next call are
+     * undone together.
+     */
     void commitChanges();
 
     ObservableList<Reminder> getReminderList();
 
+    /**
+     * Updates the reminder list to the anniversaries within the next {@code DEFAULT_REMINDER_DAYS_AHEAD} days.
+     */
     void updateReminderList();
+
+    /**
+     * Updates the reminder list to the anniversaries from today to {@code daysAhead} days later, both inclusive.
+     */
+    void updateReminderList(int daysAhead);
+
+    /**
+     * Updates the reminder list to the anniversaries from {@code from} to {@code to}, both inclusive.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    void updateReminderList(LocalDate from, LocalDate to);
+
+    /**
+     * Updates all date-dependent data, such as the reminder list, for the change of date to {@code today}.
+     * @throws NullPointerException if {@code today} is null.
+     */
+    void rollOverToDate(LocalDate today);
+
+    /**
+     * Returns the current date as of the start of the command being executed.
+     */
+    LocalDate getToday();
+
+    /**
+     * Reads the current date from the clock, so that it can be shared by everything done for one command.
+     */
+    void refreshToday();
 }
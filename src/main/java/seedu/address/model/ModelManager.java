@@ -4,9 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -15,11 +14,15 @@ import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.anniversary.Anniversary;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.UpcomingDateComparator;
+import seedu.address.model.reminder.AnniversaryCalendar;
+import seedu.address.model.reminder.PagedReminderList;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -27,35 +30,60 @@ import seedu.address.model.reminder.Reminder;
  */
 public class ModelManager implements Model {
 
-    /** The number of days ahead to include in reminder listings. */
-    private static final int REMINDED_DATE_RANGE = 3;
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Employee> filteredEmployees;
-    private int currentStatePointer = 0;
-    private List<AddressBook> addressBookStates = new ArrayList<>();
-
-    private final ObservableList<Reminder> reminderList = FXCollections.observableArrayList();
+    /** The filtered employees, in address book order or ordered by their next upcoming date. */
+    private final SortedList<Employee> sortedEmployees;
+    private UpcomingDateComparator upcomingDateComparator;
+    private boolean isSortedByUpcomingDate;
+    private final EditHistory editHistory;
+    /** Increased by every change to {@code addressBook}, so that work done for one version can be reused. */
+    private long addressBookVersion;
+    private final EditHistory.Target editTarget = new EditTarget();
+
+    private final AnniversaryCalendar anniversaryCalendar = new AnniversaryCalendar();
+    private final PagedReminderList reminderList = new PagedReminderList(anniversaryCalendar);
+    /** The number of days after today that the reminder list covers, or -1 if it covers a fixed date range. */
+    private int reminderDaysAhead = DEFAULT_REMINDER_DAYS_AHEAD;
+
+    private final Clock clock;
+    /** The current date, captured once per command so that date-dependent code does not read the clock. */
+    private LocalDate today;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, reading dates from {@code clock}.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
+        this.clock = clock;
+        this.today = LocalDate.now(clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.editHistory = new EditHistory(this.userPrefs.getUndoHistoryMaxEntries(),
+                this.userPrefs.getUndoHistoryMaxBytes());
 
         filteredEmployees = new FilteredList<>(this.addressBook.getEmployeeList());
+        upcomingDateComparator = new UpcomingDateComparator(today);
+        sortedEmployees = new SortedList<>(filteredEmployees);
+        anniversaryCalendar.setEmployees(this.addressBook.getEmployeeList());
 
         // Apply default filtering
         filteredEmployees.setPredicate(employee -> true);
     }
 
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, reading dates from the system clock.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
@@ -66,6 +94,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        editHistory.setBudget(this.userPrefs.getUndoHistoryMaxEntries(), this.userPrefs.getUndoHistoryMaxBytes());
     }
 
     @Override
@@ -99,7 +128,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        requireNonNull(addressBook);
+        AddressBook addressBookBefore = new AddressBook(this.addressBook);
+        replaceAddressBook(addressBook);
+        editHistory.recordReplacementOfAll(addressBookBefore, this.addressBook);
     }
 
     @Override
@@ -107,94 +139,106 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
     /**
-     * Updates the reminder list by scanning all persons in the address book and collecting
-     * upcoming anniversaries within a specified range (e.g. 3 days).
-     *
-     * Each upcoming anniversary is converted into a {@link seedu.address.model.reminder.Reminder}
-     * and added to the internal reminder list. The list is sorted chronologically.
+     * Updates the reminder list with the upcoming anniversaries within the default number of days.
      */
     @Override
     public void updateReminderList() {
-        reminderList.clear();
-        addressBook.getEmployeeList().stream()
-                .map(this::extractRemindersFromPerson)
-                .flatMap(List::stream)
-                .sorted()
-                .forEach(reminderList::add);
+        updateReminderList(DEFAULT_REMINDER_DAYS_AHEAD);
     }
 
     /**
-     * Extracts all upcoming anniversary reminders for a given person.
+     * Updates the reminder list with the anniversaries from today to {@code daysAhead} days later.
+     * The window moves along with the current date.
      *
-     * @param employee The person to check for upcoming anniversaries.
-     * @return A list of {@link Reminder} objects, one for each upcoming anniversary within range.
+     * Only the {@link AnniversaryCalendar} buckets for the days in range are visited, and
+     * the reminders come out in chronological order.
      */
-    private List<Reminder> extractRemindersFromPerson(Employee employee) {
-        return employee.getAnniversaries().stream()
-                .map(anni -> toReminderIfWithinRange(employee, anni, REMINDED_DATE_RANGE))
-                .flatMap(Optional::stream)
-                .toList();
+    @Override
+    public void updateReminderList(int daysAhead) {
+        reminderDaysAhead = daysAhead;
+        reminderList.setWindow(today, today.plusDays(daysAhead), today);
     }
 
     /**
-     * Converts an anniversary to a {@link Reminder} if its next occurrence is within a given range.
-     *
-     * @param employee The person the anniversary belongs to.
-     * @param anniversary The anniversary to evaluate.
-     * @param daysRange The max number of days ahead to include.
-     * @return An Optional containing a Reminder if it qualifies, otherwise an empty Optional.
+     * Updates the reminder list with the anniversaries from {@code from} to {@code to}, both inclusive.
+     * The window stays fixed until the reminder list is updated again.
      */
-    private Optional<Reminder> toReminderIfWithinRange(Employee employee, Anniversary anniversary, int daysRange) {
-        LocalDate nextDate = getNextOccurrence(anniversary.getDate());
-        if (nextDate == null) {
-            return Optional.empty();
-        }
+    @Override
+    public void updateReminderList(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        reminderDaysAhead = -1;
+        reminderList.setWindow(from, to, today);
+    }
 
-        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), nextDate);
-        if (daysLeft < 0 || daysLeft > daysRange) {
-            return Optional.empty();
+    /**
+     * Rebuilds the reminder list for its current window, moving the window to today if it follows the
+     * current date.
+     */
+    private void refreshReminderList() {
+        if (reminderDaysAhead >= 0) {
+            updateReminderList(reminderDaysAhead);
+        } else {
+            reminderList.setWindow(reminderList.getFrom(), reminderList.getTo(), today);
         }
-
-        Reminder reminder = new Reminder(
-                employee,
-                nextDate,
-                anniversary.getType(),
-                anniversary.getDescription()
-        );
-        return Optional.of(reminder);
     }
 
-    //@@author cscms03
     /**
-     * Returns the next occurrence of a given date (month and day),
-     * assuming it's a recurring annual event like a birthday or anniversary.
-     * If the input date is in the future (including the year), it returns it as-is.
-     * If the date has already passed this year, it returns the same month/day next year.
+     * Replaces the reminders of {@code removed} in the reminder list with those of {@code added}.
+     * Only the affected entries are removed and inserted, so the reminder list fires fine-grained changes
+     * instead of being rebuilt. Falls back to a full refresh if the list has not been built yet or
+     * was built on an earlier day.
      *
-     * @param date The anniversary's original date to base the recurrence on
-     * @return A {@link LocalDate} representing the next occurrence of the anniversary (preserving month and day) / null
+     * @param removed the employee whose reminders should be dropped, or {@code null} if none.
+     * @param added the employee whose reminders should be inserted, or {@code null} if none.
      */
-    private LocalDate getNextOccurrence(LocalDate date) {
-        if (date == null) {
-            return null;
+    private void updateRemindersOf(Employee removed, Employee added) {
+        if (!today.equals(reminderList.getToday())) {
+            refreshReminderList();
+            return;
         }
+        reminderList.replaceEmployee(removed, added);
+    }
 
-        LocalDate today = LocalDate.now();
+    /**
+     * Moves the reminder list on to {@code today}. A window that follows the current date is shifted
+     * by dropping the days that have passed and adding the newly covered days, and the days left of
+     * every reminder are updated. Nothing else about the reminders is recomputed.
+     */
+    @Override
+    public void rollOverToDate(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+        reminderList.advanceTo(today, reminderDaysAhead >= 0);
+        updateUpcomingDateKeys();
+    }
 
-        // If the original date is in the future (compared to today), return it directly
-        if (date.isAfter(today)) {
-            return date;
-        }
+    @Override
+    public LocalDate getToday() {
+        return today;
+    }
 
-        // Build a candidate date using today's year, but same month and day
-        LocalDate nextOccurrenceThisYear = LocalDate.of(today.getYear(), date.getMonth(), date.getDayOfMonth());
+    @Override
+    public void refreshToday() {
+        today = LocalDate.now(clock);
+        updateUpcomingDateKeys();
+    }
 
-        // If the candidate is before today, we need to move to next year
-        if (nextOccurrenceThisYear.isBefore(today)) {
-            return nextOccurrenceThisYear.plusYears(1);
-        } else {
-            return nextOccurrenceThisYear;
+    /**
+     * Moves the upcoming-date sort keys on to {@code today} if it has changed, re-sorting the employee list
+     * once if it is ordered by upcoming date. Keys are then recomputed lazily, once per employee.
+     */
+    private void updateUpcomingDateKeys() {
+        if (!upcomingDateComparator.getToday().equals(today)) {
+            upcomingDateComparator = new UpcomingDateComparator(today);
+            if (isSortedByUpcomingDate) {
+                sortedEmployees.setComparator(upcomingDateComparator);
+            }
         }
     }
 
@@ -221,6 +265,11 @@ public class ModelManager implements Model {
         return addressBook.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    @Override
+    public long getEmployeeIdPrefixConflictCount() {
+        return addressBook.getEmployeeIdPrefixConflictCount();
+    }
+
     @Override
     public boolean hasDuplicateEmployeeDetails(Employee employee) {
         requireNonNull(employee);
@@ -229,50 +278,109 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEmployee(Employee target) {
-        addressBook.removePerson(target);
-        updateReminderList();
+        requireNonNull(target);
+        int index = addressBook.indexOfPerson(target);
+        removeEmployee(target);
+        editHistory.recordRemoval(index, target);
     }
 
     @Override
     public void addEmployee(Employee employee) {
-        addressBook.addPerson(employee);
+        requireNonNull(employee);
+        int index = addressBook.getEmployeeList().size();
+        insertEmployee(index, employee);
         updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
-        updateReminderList();
+        editHistory.recordInsertion(index, employee);
     }
 
     @Override
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
+        replaceEmployee(target, editedEmployee);
+        editHistory.recordReplacement(target, editedEmployee);
+    }
+
+    /*
+     * The methods below change the address book and keep the views derived from it up to date,
+     * without recording the change in the edit history. They are shared by the public mutators
+     * and by undo and redo.
+     */
+
+    private void insertEmployee(int index, Employee employee) {
+        addressBook.addPerson(index, employee);
+        addressBookVersion++;
+        anniversaryCalendar.add(employee);
+        updateRemindersOf(null, employee);
+    }
+
+    private void removeEmployee(Employee target) {
+        addressBook.removePerson(target);
+        addressBookVersion++;
+        // Forgotten only once out of the sorted view, so that a removal cannot cache its key again
+        upcomingDateComparator.forget(target);
+        anniversaryCalendar.remove(target);
+        updateRemindersOf(target, null);
+    }
+
+    private void replaceEmployee(Employee target, Employee editedEmployee) {
         addressBook.setPerson(target, editedEmployee);
-        updateReminderList();
+        addressBookVersion++;
+        upcomingDateComparator.forget(target);
+        anniversaryCalendar.remove(target);
+        anniversaryCalendar.add(editedEmployee);
+        updateRemindersOf(target, editedEmployee);
+    }
+
+    private void replaceAddressBook(ReadOnlyAddressBook newData) {
+        addressBook.resetData(newData);
+        addressBookVersion++;
+        upcomingDateComparator.clear();
+        anniversaryCalendar.setEmployees(addressBook.getEmployeeList());
+        refreshReminderList();
     }
 
     //=========== Filtered Employee List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Employee} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code addressBook}. When it is ordered by upcoming date, it is kept in order as employees change,
+     * without re-sorting the internal list.
      */
     @Override
     public ObservableList<Employee> getFilteredEmployeeList() {
-        return filteredEmployees;
+        return sortedEmployees;
+    }
+
+    @Override
+    public void setEmployeeListSortedByUpcomingDate(boolean isSortedByUpcomingDate) {
+        this.isSortedByUpcomingDate = isSortedByUpcomingDate;
+        sortedEmployees.setComparator(isSortedByUpcomingDate ? upcomingDateComparator : null);
     }
 
     @Override
     public ObservableList<Employee> getFilteredByEmployeeIdPrefixListFromObservable(EmployeeId employeeIdPrefix) {
         requireNonNull(employeeIdPrefix);
         return new FilteredList<>(
-                filteredEmployees, employee -> employeeIdPrefix.isPrefixOf(employee.getEmployeeId())
+                sortedEmployees, employee -> employeeIdPrefix.isPrefixOf(employee.getEmployeeId())
         );
     }
 
     @Override
-    public ObservableList<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
+    public List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
         requireNonNull(employeeIdPrefix);
-        return new FilteredList<>(
-                addressBook.getEmployeeList(),
-                employee -> employeeIdPrefix.isPrefixOf(employee.getEmployeeId())
-        );
+        return addressBook.getEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
+    }
+
+    @Override
+    public int countEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return addressBook.countEmployeesWithEmployeeIdPrefix(employeeIdPrefix);
+    }
+
+    @Override
+    public Optional<Employee> getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return addressBook.getUniqueEmployeeWithEmployeeIdPrefix(employeeIdPrefix);
     }
 
     @Override
@@ -295,51 +403,92 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredEmployees.equals(otherModelManager.filteredEmployees);
+                && sortedEmployees.equals(otherModelManager.sortedEmployees);
     }
 
     /**
-     * Checks if the address book can be undone.
-     * This is determined by whether the current state pointer is greater than 0,
-     * indicating that there is at least one previous state to revert to.
-     *
-     * @return True if the address book has a previous state to undo, otherwise false.
+     * Returns true if there is a committed change to the address book that can be undone.
      */
     public boolean canUndoAddressBook() {
-        return currentStatePointer > 0;
+        return editHistory.canUndo();
     }
 
     /**
-     * Undoes the most recent change to the address book.
-     * This reverts the address book to its previous state based on the current state pointer.
-     * The state pointer is decremented, and the address book is updated with the previous state.
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    public boolean canRedoAddressBook() {
+        return editHistory.canRedo();
+    }
+
+    /**
+     * Undoes the changes made to the address book since the most recent commit that has not been undone.
+     * Only the employees touched by those changes are reverted.
      *
-     * @throws IllegalStateException If no undo is available (i.e., no previous state exists).
+     * @throws IllegalStateException If no undo is available.
+     * @throws DataLoadingException If the changes were moved to disk and cannot be read back. Nothing is undone,
+     *     and the older changes can no longer be undone.
      */
-    public void undoAddressBook() {
-        if (canUndoAddressBook()) {
-            currentStatePointer--;
-            addressBook.resetData(addressBookStates.get(currentStatePointer));
-        }
+    public void undoAddressBook() throws DataLoadingException {
+        editHistory.undo(editTarget);
     }
 
     /**
-     * Commits the current state of the address book to the history.
-     * This creates a new snapshot of the current address book and adds it to the list of address book states.
-     * The current state pointer is incremented to reflect the new committed state.
+     * Redoes the changes most recently reverted by {@link #undoAddressBook()}.
+     *
+     * @throws IllegalStateException If no redo is available.
      */
-    public void commitAddressBook() {
-        addressBookStates.add(new AddressBook(addressBook));
-        currentStatePointer++;
+    public void redoAddressBook() {
+        editHistory.redo(editTarget);
     }
 
     /**
-     * Commits the current changes to the address book.
-     * This is a wrapper method that calls {@link #commitAddressBook()}.
+     * Returns the current depth and memory use of the undo history.
+     */
+    public HistoryUsage getHistoryUsage() {
+        return editHistory.getUsage();
+    }
+
+    /**
+     * Marks the start of a new undoable change to the address book.
+     * The changes made from now on until the next commit are undone together.
      */
     @Override
     public void commitChanges() {
-        commitAddressBook();
+        editHistory.beginStep();
+    }
+
+    /**
+     * Applies the edits of {@code editHistory} to this model without recording them again.
+     */
+    private class EditTarget implements EditHistory.Target {
+        @Override
+        public void insertEmployee(int index, Employee employee) {
+            ModelManager.this.insertEmployee(index, employee);
+        }
+
+        @Override
+        public void removeEmployee(Employee employee) {
+            ModelManager.this.removeEmployee(storedInstanceOf(employee));
+        }
+
+        @Override
+        public void replaceEmployee(Employee target, Employee editedEmployee) {
+            ModelManager.this.replaceEmployee(storedInstanceOf(target), editedEmployee);
+        }
+
+        @Override
+        public void replaceAddressBook(ReadOnlyAddressBook addressBook) {
+            ModelManager.this.replaceAddressBook(addressBook);
+        }
+
+        /**
+         * Returns the employee in the address book that is equal to {@code employee}.
+         * Edits read back from disk hold copies of the employees, while some caches are keyed by identity.
+         */
+        private Employee storedInstanceOf(Employee employee) {
+            int index = addressBook.indexOfPerson(employee);
+            return index == -1 ? employee : addressBook.getEmployeeList().get(index);
+        }
     }
 
 }
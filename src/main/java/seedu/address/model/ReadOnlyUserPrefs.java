@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getHreersDatafilePath();
 
+    /** Returns the format the address book is saved in. */
+    DataFileFormat getHreersDatafileFormat();
+
+    /** Returns the format the address book was saved in by the last run, if it is known. */
+    Optional<DataFileFormat> getLastHreersDatafileFormat();
+
+    /** Returns the number of undo steps that may be held in memory before older ones are moved to disk. */
+    int getUndoHistoryMaxEntries();
+
+    /** Returns the estimated number of bytes that undo steps held in memory may take. */
+    long getUndoHistoryMaxBytes();
+
 }
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,8 +15,16 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_MAX_ENTRIES = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path hreersDatafilePath = Paths.get("data" , "Hreers.json");
+    private DataFileFormat hreersDatafileFormat = DataFileFormat.JSON;
+    /** The format the address book was saved in by the last run, or {@code null} if not known. */
+    private DataFileFormat lastHreersDatafileFormat;
+    private int undoHistoryMaxEntries = DEFAULT_UNDO_HISTORY_MAX_ENTRIES;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setHreersDatafilePath(newUserPrefs.getHreersDatafilePath());
+        setHreersDatafileFormat(newUserPrefs.getHreersDatafileFormat());
+        lastHreersDatafileFormat = newUserPrefs.getLastHreersDatafileFormat().orElse(null);
+        setUndoHistoryMaxEntries(newUserPrefs.getUndoHistoryMaxEntries());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.hreersDatafilePath = hreersDatafilePath;
     }
 
+    public DataFileFormat getHreersDatafileFormat() {
+        return hreersDatafileFormat;
+    }
+
+    public void setHreersDatafileFormat(DataFileFormat hreersDatafileFormat) {
+        requireNonNull(hreersDatafileFormat);
+        this.hreersDatafileFormat = hreersDatafileFormat;
+    }
+
+    public Optional<DataFileFormat> getLastHreersDatafileFormat() {
+        return Optional.ofNullable(lastHreersDatafileFormat);
+    }
+
+    public void setLastHreersDatafileFormat(DataFileFormat lastHreersDatafileFormat) {
+        requireNonNull(lastHreersDatafileFormat);
+        this.lastHreersDatafileFormat = lastHreersDatafileFormat;
+    }
+
+    public int getUndoHistoryMaxEntries() {
+        return undoHistoryMaxEntries;
+    }
+
+    public void setUndoHistoryMaxEntries(int undoHistoryMaxEntries) {
+        checkArgument(undoHistoryMaxEntries >= 1, "Undo history must hold at least one step");
+        this.undoHistoryMaxEntries = undoHistoryMaxEntries;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes >= 0, "Undo history memory budget must not be negative");
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +119,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && hreersDatafilePath.equals(otherUserPrefs.hreersDatafilePath);
+                && hreersDatafilePath.equals(otherUserPrefs.hreersDatafilePath)
+                && hreersDatafileFormat == otherUserPrefs.hreersDatafileFormat
+                && lastHreersDatafileFormat == otherUserPrefs.lastHreersDatafileFormat
+                && undoHistoryMaxEntries == otherUserPrefs.undoHistoryMaxEntries
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, hreersDatafilePath);
+        return Objects.hash(guiSettings, hreersDatafilePath, hreersDatafileFormat, lastHreersDatafileFormat,
+                undoHistoryMaxEntries, undoHistoryMaxBytes);
     }
 
     @Override
@@ -82,6 +137,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + hreersDatafilePath);
+        sb.append("\nLocal data file format : " + hreersDatafileFormat);
+        sb.append("\nUndo history budget : " + undoHistoryMaxEntries + " steps, " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
@@ -87,38 +87,36 @@ public class Employee {
                 && tags.equals(otherEmployee.tags);
     }
 
-    //TODO: Remove this method after finalising the feature
     /**
-     * Returns the next upcoming important date (birthday or work anniversary) for this employee.
+     * Returns the next upcoming important date (birthday or work anniversary) for this employee,
+     * counting from {@code today}.
      *
+     * @param today The date to count from.
      * @return The next upcoming date as a {@code LocalDate} object, or {@code null} if none exists.
      */
-    public LocalDate getNextUpcomingDate() {
-        return anniversaries.stream()
-                .map(Anniversary::getDate) // Get the anniversary dates
-                .filter(date -> date != null) // Filter out null values
-                .map(date -> {
-                    LocalDate today = LocalDate.now();
-                    LocalDate nextDate = date.withYear(today.getYear());
-
-                    // If the date has already passed this year, set it to next year
-                    if (nextDate.isBefore(today)) {
-                        nextDate = nextDate.plusYears(1);
-                    }
-                    return nextDate;
-                })
-                .min(LocalDate::compareTo) // Find the earliest upcoming date
-                .orElse(null); // Return null if no valid dates are found
+    public LocalDate getNextUpcomingDate(LocalDate today) {
+        LocalDate earliest = null;
+        for (Anniversary anniversary : anniversaries) {
+            LocalDate date = anniversary.getDate();
+            if (date == null) {
+                continue;
+            }
+            LocalDate nextDate = calculateNextUpcomingDate(date, today);
+            if (earliest == null || nextDate.isBefore(earliest)) {
+                earliest = nextDate;
+            }
+        }
+        return earliest;
     }
 
     /**
      * Calculates the next upcoming date for a given anniversary date.
      *
      * @param date The original anniversary date.
+     * @param today The date to count from.
      * @return The next upcoming anniversary date adjusted to the current or next year.
      */
-    private LocalDate calculateNextUpcomingDate(LocalDate date) {
-        LocalDate today = LocalDate.now();
+    private static LocalDate calculateNextUpcomingDate(LocalDate date, LocalDate today) {
         LocalDate nextDate = date.withYear(today.getYear());
         return nextDate.isBefore(today) ? nextDate.plusYears(1) : nextDate;
     }
@@ -127,34 +125,37 @@ public class Employee {
      * Returns the next upcoming date for the given anniversary type.
      *
      * @param anniversaryTypeName The class representing the anniversary type (e.g., Birthday.class).
+     * @param today The date to count from.
      * @return The next upcoming date, or {@code null} if no matching anniversary is found.
      */
-    private LocalDate getNextUpcomingDateByType(String anniversaryTypeName) {
+    private LocalDate getNextUpcomingDateByType(String anniversaryTypeName, LocalDate today) {
         return anniversaries.stream()
                 .filter(a -> a.getType().getName().equalsIgnoreCase(anniversaryTypeName))
                 .map(Anniversary::getDate)
                 .filter(Objects::nonNull)
-                .map(this::calculateNextUpcomingDate)
+                .map(date -> calculateNextUpcomingDate(date, today))
                 .min(LocalDate::compareTo)
                 .orElse(null);
     }
 
     /**
-     * Returns the next upcoming birthday date for this employee.
+     * Returns the next upcoming birthday date for this employee, counting from {@code today}.
      *
+     * @param today The date to count from.
      * @return The upcoming birthday as a {@code LocalDate}, or {@code null} if none found.
      */
-    public LocalDate getNextUpcomingBirthdayDate() {
-        return getNextUpcomingDateByType("Birthday");
+    public LocalDate getNextUpcomingBirthdayDate(LocalDate today) {
+        return getNextUpcomingDateByType("Birthday", today);
     }
 
     /**
-     * Returns the next upcoming work anniversary date for this employee.
+     * Returns the next upcoming work anniversary date for this employee, counting from {@code today}.
      *
+     * @param today The date to count from.
      * @return The upcoming work anniversary as a {@code LocalDate}, or {@code null} if none found.
      */
-    public LocalDate getNextUpcomingWorkAnniversaryDate() {
-        return getNextUpcomingDateByType("Work Anniversary");
+    public LocalDate getNextUpcomingWorkAnniversaryDate(LocalDate today) {
+        return getNextUpcomingDateByType("Work Anniversary", today);
     }
 
     public String getEmployeeIdAsString() {
@@ -164,18 +165,18 @@ public class Employee {
     //TODO: Remove this method after finalising the feature
     /**
      * Checks if the next upcoming important date (birthday or work anniversary)
-     * for this employee is within the specified number of days from today.
+     * for this employee is within the specified number of days from {@code today}.
      *
      * @param days The number of days from today to check for an upcoming date.
+     * @param today The date to count from.
      * @return {@code true} if the next upcoming date is within the specified number of days,
      *         {@code false} otherwise or if no upcoming date is available.
      */
-    public boolean isUpcomingWithinDays(String anniversaryTypeName, int days) {
-        LocalDate nextDate = getNextUpcomingDateByType(anniversaryTypeName);
+    public boolean isUpcomingWithinDays(String anniversaryTypeName, int days, LocalDate today) {
+        LocalDate nextDate = getNextUpcomingDateByType(anniversaryTypeName, today);
         if (nextDate == null) {
             return false;
         }
-        LocalDate today = LocalDate.now();
         return !nextDate.isBefore(today) && !nextDate.isAfter(today.plusDays(days));
     }
 
@@ -0,0 +1,411 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A path-compressed character trie of employees keyed on {@code EmployeeId#value}.
+ * Every node knows how many employees live in its subtree, so prefix counts and
+ * prefix conflict checks cost O(length of the ID) regardless of how many employees are stored.
+ * Each employee is stored together with an order key, which records its position in the employee list.
+ *
+ * Nodes are never modified once built. An update copies only the nodes on the path to the changed ID and
+ * shares every other node with the previous version, so {@link #EmployeeIdTrie(EmployeeIdTrie) copying}
+ * a trie takes constant time regardless of how many employees it holds.
+ *
+ * The trie does not enforce uniqueness itself; callers must not insert an ID that is already present.
+ */
+class EmployeeIdTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private Node root = new Node("", null, 0, 0, NO_CHILDREN);
+    /** Number of unordered pairs of stored IDs where one ID is a prefix of the other. */
+    private long conflictingPairCount;
+
+    /**
+     * Creates an empty trie.
+     */
+    public EmployeeIdTrie() {}
+
+    /**
+     * Creates a trie holding the same employees as {@code toCopy}, in constant time.
+     * Later changes to either trie do not affect the other.
+     */
+    public EmployeeIdTrie(EmployeeIdTrie toCopy) {
+        requireNonNull(toCopy);
+        root = toCopy.root;
+        conflictingPairCount = toCopy.conflictingPairCount;
+    }
+
+    /**
+     * Inserts {@code employee} under its employee ID, with the given order key.
+     * No employee with the same ID may already be present.
+     */
+    public void add(Employee employee, long orderKey) {
+        requireNonNull(employee);
+        String key = employee.getEmployeeId().value;
+        assert get(key) == null : "Employee ID already present in trie: " + key;
+        conflictingPairCount += countConflictsWith(key);
+        root = insert(root, key, 0, employee, orderKey);
+    }
+
+    /**
+     * Removes the employee stored under {@code key}.
+     *
+     * @return the removed employee, or {@code null} if no employee has exactly this ID.
+     */
+    public Employee remove(String key) {
+        requireNonNull(key);
+        Employee removed = get(key);
+        if (removed == null) {
+            return null;
+        }
+        root = removeFrom(root, key, 0);
+        conflictingPairCount -= countConflictsWith(key);
+        return removed;
+    }
+
+    /**
+     * Returns the number of unordered pairs of stored IDs where one ID is a prefix of the other.
+     * This count is kept up to date on every insertion and removal, so reading it is O(1).
+     */
+    public long getConflictingPairCount() {
+        return conflictingPairCount;
+    }
+
+    /**
+     * Returns the employee whose ID is exactly {@code key}, or {@code null} if there is none.
+     */
+    public Employee get(String key) {
+        Node node = find(key);
+        return node == null ? null : node.employee;
+    }
+
+    /**
+     * Returns the order key stored with the employee whose ID is exactly {@code key}.
+     * Such an employee must be present.
+     */
+    public long getOrderKey(String key) {
+        Node node = find(key);
+        assert node != null && node.employee != null : "Employee ID not present in trie: " + key;
+        return node.orderKey;
+    }
+
+    /**
+     * Returns the number of employees whose ID starts with {@code prefix}.
+     */
+    public int countWithPrefix(String prefix) {
+        Node node = locate(prefix);
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns the only employee whose ID starts with {@code prefix}, or an empty {@code Optional}
+     * if there are no or multiple such employees.
+     */
+    public Optional<Employee> getUniqueWithPrefix(String prefix) {
+        Node node = locate(prefix);
+        if (node == null || node.size != 1) {
+            return Optional.empty();
+        }
+        while (node.employee == null) {
+            node = node.children[0];
+        }
+        return Optional.of(node.employee);
+    }
+
+    /**
+     * Returns all employees whose ID starts with {@code prefix}, in lexicographic order of their IDs.
+     */
+    public List<Employee> getWithPrefix(String prefix) {
+        Node node = locate(prefix);
+        if (node == null) {
+            return new ArrayList<>();
+        }
+
+        List<Employee> result = new ArrayList<>(node.size);
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.employee != null) {
+                result.add(current.employee);
+            }
+            for (int i = current.children.length - 1; i >= 0; i--) {
+                stack.push(current.children[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if some stored ID other than {@code ignoredKey} is a prefix of {@code key},
+     * or has {@code key} as a prefix. Pass a {@code null} {@code ignoredKey} to ignore nothing.
+     */
+    public boolean hasPrefixConflict(String key, String ignoredKey) {
+        requireNonNull(key);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            if (node != root && node.employee != null && !node.employee.getEmployeeId().value.equals(ignoredKey)) {
+                // A stored ID is a proper prefix of the key
+                return true;
+            }
+
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null) {
+                return false;
+            }
+
+            int remaining = key.length() - depth;
+            if (child.label.length() >= remaining) {
+                // Every ID in the child's subtree starts with the key
+                return child.label.regionMatches(0, key, depth, remaining)
+                        && countExcluding(child, key, ignoredKey) > 0;
+            }
+            if (!key.startsWith(child.label, depth)) {
+                return false;
+            }
+            depth += child.label.length();
+            node = child;
+        }
+        return countExcluding(node, key, ignoredKey) > 0;
+    }
+
+    /**
+     * Returns the number of stored IDs that are a prefix of {@code key} or have {@code key} as a prefix.
+     * {@code key} itself must not be stored in the trie.
+     */
+    private int countConflictsWith(String key) {
+        int count = 0;
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            if (node.employee != null) {
+                count++;
+            }
+
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null) {
+                return count;
+            }
+
+            int remaining = key.length() - depth;
+            if (child.label.length() >= remaining) {
+                return child.label.regionMatches(0, key, depth, remaining) ? count + child.size : count;
+            }
+            if (!key.startsWith(child.label, depth)) {
+                return count;
+            }
+            depth += child.label.length();
+            node = child;
+        }
+        return count + node.size;
+    }
+
+    /**
+     * Returns the number of employees in the subtree of {@code node}, which holds every ID starting
+     * with {@code key}, leaving out {@code ignoredKey} if it is one of them.
+     */
+    private int countExcluding(Node node, String key, String ignoredKey) {
+        boolean isIgnoredInSubtree = ignoredKey != null && ignoredKey.startsWith(key) && get(ignoredKey) != null;
+        return isIgnoredInSubtree ? node.size - 1 : node.size;
+    }
+
+    /**
+     * Returns a copy of {@code node} with {@code key} inserted into its subtree, where {@code depth} characters
+     * of {@code key} lead up to and including the node's own label.
+     */
+    private static Node insert(Node node, String key, int depth, Employee employee, long orderKey) {
+        if (depth == key.length()) {
+            return new Node(node.label, employee, orderKey, node.size + 1, node.children);
+        }
+
+        Node child = node.getChild(key.charAt(depth));
+        if (child == null) {
+            Node leaf = new Node(key.substring(depth), employee, orderKey, 1, NO_CHILDREN);
+            return node.withChild(leaf, node.size + 1);
+        }
+
+        int common = commonPrefixLength(child.label, key, depth);
+        if (common < child.label.length()) {
+            // Split the edge so that the shared part of the label gets its own node
+            child = new Node(child.label.substring(0, common), null, 0, child.size,
+                    new Node[] {child.withLabel(child.label.substring(common))});
+        }
+        return node.withChild(insert(child, key, depth + common, employee, orderKey), node.size + 1);
+    }
+
+    /**
+     * Returns a copy of {@code node} with {@code key}, which must be in its subtree, removed.
+     * Emptied children are pruned, and children left without an employee and with a single child of
+     * their own are merged with that child.
+     */
+    private static Node removeFrom(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            return new Node(node.label, null, 0, node.size - 1, node.children);
+        }
+
+        Node child = node.getChild(key.charAt(depth));
+        Node updatedChild = removeFrom(child, key, depth + child.label.length());
+        if (updatedChild.size == 0) {
+            return node.withoutChild(key.charAt(depth), node.size - 1);
+        }
+        return node.withChild(updatedChild.mergedWithOnlyChild(), node.size - 1);
+    }
+
+    /**
+     * Returns the node storing the ID {@code key} exactly, or {@code null} if there is none.
+     */
+    private Node find(String key) {
+        requireNonNull(key);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null || !key.startsWith(child.label, depth)) {
+                return null;
+            }
+            depth += child.label.length();
+            node = child;
+        }
+        return node.employee == null ? null : node;
+    }
+
+    /**
+     * Returns the topmost node whose subtree contains exactly the IDs starting with {@code prefix},
+     * or {@code null} if no ID starts with {@code prefix}.
+     */
+    private Node locate(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            Node child = node.getChild(prefix.charAt(depth));
+            if (child == null) {
+                return null;
+            }
+
+            int remaining = prefix.length() - depth;
+            if (child.label.length() >= remaining) {
+                return child.label.regionMatches(0, prefix, depth, remaining) ? child : null;
+            }
+            if (!prefix.startsWith(child.label, depth)) {
+                return null;
+            }
+            depth += child.label.length();
+            node = child;
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * An immutable trie node. The {@code label} is the part of the ID on the edge leading into this node.
+     * The children are kept in order of the first character of their labels.
+     */
+    private static class Node {
+        private final String label;
+        private final Employee employee;
+        private final long orderKey;
+        private final int size;
+        private final Node[] children;
+
+        Node(String label, Employee employee, long orderKey, int size, Node[] children) {
+            this.label = label;
+            this.employee = employee;
+            this.orderKey = orderKey;
+            this.size = size;
+            this.children = children;
+        }
+
+        Node getChild(char c) {
+            int index = indexOfChild(c);
+            return index < 0 ? null : children[index];
+        }
+
+        Node withLabel(String newLabel) {
+            return new Node(newLabel, employee, orderKey, size, children);
+        }
+
+        /**
+         * Returns a copy of this node of the given size, with {@code child} added or replacing the child
+         * whose label starts with the same character.
+         */
+        Node withChild(Node child, int newSize) {
+            int index = indexOfChild(child.label.charAt(0));
+            Node[] newChildren;
+            if (index >= 0) {
+                newChildren = children.clone();
+                newChildren[index] = child;
+            } else {
+                int insertionPoint = -index - 1;
+                newChildren = new Node[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+                newChildren[insertionPoint] = child;
+                System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1,
+                        children.length - insertionPoint);
+            }
+            return new Node(label, employee, orderKey, newSize, newChildren);
+        }
+
+        /**
+         * Returns a copy of this node of the given size, without the child whose label starts with {@code c}.
+         */
+        Node withoutChild(char c, int newSize) {
+            int index = indexOfChild(c);
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new Node(label, employee, orderKey, newSize, newChildren);
+        }
+
+        /**
+         * Returns this node with its lone child folded into it if it does not store an employee itself,
+         * or this node unchanged otherwise.
+         */
+        Node mergedWithOnlyChild() {
+            if (employee != null || children.length != 1) {
+                return this;
+            }
+            Node onlyChild = children[0];
+            return new Node(label + onlyChild.label, onlyChild.employee, onlyChild.orderKey, onlyChild.size,
+                    onlyChild.children);
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, or {@code -(insertion point) - 1}
+         * if there is none.
+         */
+        private int indexOfChild(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A sequence of employees ordered by {@code long} order keys, stored as an AVL tree in which every node knows
+ * the size of its subtree. Lookups by key or by position, insertions and removals all take O(log n).
+ *
+ * Nodes are never modified once built. An update copies only the O(log n) nodes on the path to the changed
+ * key and shares every other node with the previous version, so {@link #EmployeeSequence(EmployeeSequence)
+ * copying} a sequence takes constant time regardless of how many employees it holds.
+ */
+class EmployeeSequence implements Iterable<Employee> {
+
+    private Node root;
+
+    /**
+     * Creates an empty sequence.
+     */
+    public EmployeeSequence() {}
+
+    /**
+     * Creates a sequence holding the same employees as {@code toCopy}, in constant time.
+     * Later changes to either sequence do not affect the other.
+     */
+    public EmployeeSequence(EmployeeSequence toCopy) {
+        requireNonNull(toCopy);
+        root = toCopy.root;
+    }
+
+    /**
+     * Creates a sequence of {@code employees} in the given order, keyed {@code 0}, {@code keySpacing},
+     * {@code 2 * keySpacing} and so on. Takes O(n) time.
+     */
+    public static EmployeeSequence of(List<Employee> employees, long keySpacing) {
+        requireNonNull(employees);
+        EmployeeSequence sequence = new EmployeeSequence();
+        sequence.root = build(employees, 0, employees.size() - 1, keySpacing);
+        return sequence;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the employee at {@code index} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the sequence.
+     */
+    public Employee get(int index) {
+        return nodeAt(root, index).employee;
+    }
+
+    /**
+     * Returns the order key of the employee at {@code index} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the sequence.
+     */
+    public long getKey(int index) {
+        return nodeAt(root, index).key;
+    }
+
+    /**
+     * Returns the position of the employee with order key {@code key}, or -1 if there is none.
+     */
+    public int indexOfKey(long key) {
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + sizeOf(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores {@code employee} under {@code key}, replacing the employee already stored under it if any.
+     */
+    public void put(long key, Employee employee) {
+        requireNonNull(employee);
+        root = insert(root, key, employee);
+    }
+
+    /**
+     * Removes the employee stored under {@code key}, if any.
+     */
+    public void remove(long key) {
+        root = delete(root, key);
+    }
+
+    /**
+     * Returns a read-only list view of the employees currently in the sequence, in key order.
+     * Later changes to the sequence do not affect the view.
+     */
+    public List<Employee> asList() {
+        Node snapshot = root;
+        return new AbstractList<>() {
+            @Override
+            public Employee get(int index) {
+                return nodeAt(snapshot, index).employee;
+            }
+
+            @Override
+            public int size() {
+                return sizeOf(snapshot);
+            }
+
+            @Override
+            public Iterator<Employee> iterator() {
+                return new InOrderIterator(snapshot);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Employee> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    private static Node build(List<Employee> employees, int low, int high, long keySpacing) {
+        if (low > high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        return new Node(mid * keySpacing, employees.get(mid), build(employees, low, mid - 1, keySpacing),
+                build(employees, mid + 1, high, keySpacing));
+    }
+
+    private static Node nodeAt(Node root, int index) {
+        if (index < 0 || index >= sizeOf(root)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + sizeOf(root));
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private static Node insert(Node node, long key, Employee employee) {
+        if (node == null) {
+            return new Node(key, employee, null, null);
+        }
+        if (key < node.key) {
+            return balance(node.key, node.employee, insert(node.left, key, employee), node.right);
+        }
+        if (key > node.key) {
+            return balance(node.key, node.employee, node.left, insert(node.right, key, employee));
+        }
+        return new Node(key, employee, node.left, node.right);
+    }
+
+    private static Node delete(Node node, long key) {
+        if (node == null) {
+            return null;
+        }
+        if (key < node.key) {
+            return balance(node.key, node.employee, delete(node.left, key), node.right);
+        }
+        if (key > node.key) {
+            return balance(node.key, node.employee, node.left, delete(node.right, key));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.employee, node.left, removeFirst(node.right));
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.employee, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node holding {@code key} and {@code employee} over the given subtrees, rotating it if the
+     * heights of the subtrees differ by more than one.
+     */
+    private static Node balance(long key, Employee employee, Node left, Node right) {
+        int heightDifference = heightOf(left) - heightOf(right);
+        if (heightDifference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.key, left.employee, left.left, left.right);
+            }
+            return rotateRight(key, employee, left, right);
+        }
+        if (heightDifference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.key, right.employee, right.left, right.right);
+            }
+            return rotateLeft(key, employee, left, right);
+        }
+        return new Node(key, employee, left, right);
+    }
+
+    private static Node rotateLeft(long key, Employee employee, Node left, Node right) {
+        return new Node(right.key, right.employee, new Node(key, employee, left, right.left), right.right);
+    }
+
+    private static Node rotateRight(long key, Employee employee, Node left, Node right) {
+        return new Node(left.key, left.employee, left.left, new Node(key, employee, left.right, right));
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node.
+     */
+    private static class Node {
+        private final long key;
+        private final Employee employee;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(long key, Employee employee, Node left, Node right) {
+            this.key = key;
+            this.employee = employee;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the employees of a tree in key order.
+     */
+    private static class InOrderIterator implements Iterator<Employee> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Employee next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.employee;
+        }
+
+        private void pushLeftSpine(Node node) {
+            for (Node current = node; current != null; current = current.left) {
+                stack.push(current);
+            }
+        }
+    }
+}
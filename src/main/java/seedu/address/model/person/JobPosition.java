@@ -26,11 +26,25 @@ public class JobPosition {
      * @param jobPosition A valid job position.
      */
     public JobPosition(String jobPosition) {
+        this(jobPosition, true);
+    }
+
+    private JobPosition(String jobPosition, boolean isToBeValidated) {
         requireNonNull(jobPosition);
-        checkArgument(isValidJobPosition(jobPosition), MESSAGE_CONSTRAINTS);
+        if (isToBeValidated) {
+            checkArgument(isValidJobPosition(jobPosition), MESSAGE_CONSTRAINTS);
+        }
         value = jobPosition;
     }
 
+    /**
+     * Returns a {@code JobPosition} of {@code jobPosition}, which must already be known to be valid, without
+     * validating it again.
+     */
+    public static JobPosition ofValidated(String jobPosition) {
+        return new JobPosition(jobPosition, false);
+    }
+
     /**
      * Returns true if a given string is a valid job position.
      */
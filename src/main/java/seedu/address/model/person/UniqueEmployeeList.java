@@ -5,13 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import javafx.util.Pair;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.EmployeeNotFoundException;
@@ -32,7 +33,14 @@ import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
  */
 public class UniqueEmployeeList implements Iterable<Employee> {
 
-    private final ObservableList<Employee> internalList = FXCollections.observableArrayList();
+    /** The gap left between the order keys of neighbouring employees when the keys are assigned afresh. */
+    private static final long ORDER_KEY_SPACING = 1L << 20;
+
+    /** The employees in list order, keyed on order keys that increase along the list. */
+    private EmployeeSequence sequence = new EmployeeSequence();
+    /** The employees keyed on employee ID, each stored with its order key in {@code sequence}. */
+    private EmployeeIdTrie employeeIdTrie = new EmployeeIdTrie();
+    private final EmployeeListView internalList = new EmployeeListView();
     private final ObservableList<Employee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -41,37 +49,43 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean contains(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployee);
+        return employeeIdTrie.get(toCheck.getEmployeeId().value) != null;
+    }
+
+    /**
+     * Returns the employee whose employee ID is exactly {@code employeeId}, if there is one.
+     */
+    public Optional<Employee> getEmployee(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return Optional.ofNullable(employeeIdTrie.get(employeeId.value));
     }
 
     /**
-     * Sorts the list of persons by their next upcoming date (birthday or work anniversary).
+     * Sorts the list of persons by their next upcoming date (birthday or work anniversary) from {@code today}.
      * - Persons with the nearest upcoming date will appear first.
      * - Persons without a birthday or anniversary will be placed at the end of the list.
+     * Each person's upcoming date is computed once rather than on every comparison.
      */
-    public void sortByUpcomingDate() {
-        List<Employee> sortedList = internalList.stream()
-                .sorted(Comparator
-                        .comparing(Employee::getNextUpcomingDate,
-                                Comparator.nullsLast(Comparator.naturalOrder()))
-                )
-                .collect(Collectors.toList());
+    public void sortByUpcomingDate(LocalDate today) {
+        requireNonNull(today);
+        List<Employee> sortedList = new ArrayList<>(internalList);
+        sortedList.sort(new UpcomingDateComparator(today));
 
         // Update the list after sorting
-        internalList.setAll(sortedList);
+        setPersons(sortedList);
     }
     /**
      * Calculates the number of days until the next occurrence of a birthday.
      *
      * @param birthday The date of the birthday.
+     * @param today The date to count from.
      * @return Number of days until the next birthday, or {@code null} if the birthday is {@code null}.
      */
-    private Integer daysUntilNextBirthday(LocalDate birthday) {
+    private Integer daysUntilNextBirthday(LocalDate birthday, LocalDate today) {
         if (birthday == null) {
             return null;
         }
 
-        LocalDate today = LocalDate.now();
         LocalDate nextBirthday = birthday.withYear(today.getYear());
 
         // If the birthday has already passed this year, adjust to next year
@@ -88,11 +102,25 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * The employee must not already exist in the list.
      */
     public void add(Employee toAdd) {
+        add(sequence.size(), toAdd);
+    }
+
+    /**
+     * Inserts a employee at {@code index} in the list, shifting the employees after it along.
+     * The employee must not already exist in the list.
+     */
+    public void add(int index, Employee toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        if (index < 0 || index > sequence.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + sequence.size());
+        }
+        long orderKey = allocateOrderKey(index);
+        sequence.put(orderKey, toAdd);
+        employeeIdTrie.add(toAdd, orderKey);
+        internalList.fireAdded(index);
     }
 
     /**
@@ -103,7 +131,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public void setPerson(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EmployeeNotFoundException();
         }
@@ -112,7 +140,12 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedEmployee);
+        Employee replaced = sequence.get(index);
+        long orderKey = employeeIdTrie.getOrderKey(target.getEmployeeId().value);
+        sequence.put(orderKey, editedEmployee);
+        employeeIdTrie.remove(target.getEmployeeId().value);
+        employeeIdTrie.add(editedEmployee, orderKey);
+        internalList.fireReplaced(index, replaced);
     }
 
     /**
@@ -121,14 +154,23 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void remove(Employee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EmployeeNotFoundException();
         }
+        Employee removed = sequence.get(index);
+        sequence.remove(employeeIdTrie.getOrderKey(toRemove.getEmployeeId().value));
+        employeeIdTrie.remove(toRemove.getEmployeeId().value);
+        internalList.fireRemoved(index, removed);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The two lists share their structure afterwards, so this takes constant time regardless of their sizes.
+     */
     public void setPersons(UniqueEmployeeList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(new EmployeeSequence(replacement.sequence), new EmployeeIdTrie(replacement.employeeIdTrie));
     }
 
     /**
@@ -137,10 +179,76 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void setPersons(List<Employee> employees) {
         requireAllNonNull(employees);
-        if (!personsAreUnique(employees)) {
-            throw new DuplicatePersonException();
+        EmployeeSequence newSequence = EmployeeSequence.of(employees, ORDER_KEY_SPACING);
+        EmployeeIdTrie newEmployeeIdTrie = indexByEmployeeId(employees);
+        replaceContents(newSequence, newEmployeeIdTrie);
+    }
+
+    /**
+     * Returns the position of the employee equal to {@code employee} in the list, or -1 if there is none.
+     */
+    public int indexOf(Employee employee) {
+        String employeeId = employee.getEmployeeId().value;
+        Employee stored = employeeIdTrie.get(employeeId);
+        if (stored == null || !stored.equals(employee)) {
+            return -1;
+        }
+        return sequence.indexOfKey(employeeIdTrie.getOrderKey(employeeId));
+    }
+
+    /**
+     * Returns an order key for an employee about to be inserted at {@code index}, which lies between the keys
+     * of its neighbours. If there is no room left between them, the keys of all employees are assigned afresh.
+     */
+    private long allocateOrderKey(int index) {
+        int size = sequence.size();
+        if (size == 0) {
+            return 0;
+        }
+        long before = index == 0 ? Long.MIN_VALUE : sequence.getKey(index - 1);
+        long after = index == size ? Long.MAX_VALUE : sequence.getKey(index);
+        if (index == size && before <= Long.MAX_VALUE - ORDER_KEY_SPACING) {
+            return before + ORDER_KEY_SPACING;
+        }
+        if (index == 0 && after >= Long.MIN_VALUE + ORDER_KEY_SPACING) {
+            return after - ORDER_KEY_SPACING;
+        }
+        if (index > 0 && index < size && after - before > 1) {
+            return before + (after - before) / 2;
+        }
+
+        List<Employee> employees = sequence.asList();
+        sequence = EmployeeSequence.of(employees, ORDER_KEY_SPACING);
+        employeeIdTrie = indexByEmployeeId(employees);
+        return allocateOrderKey(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newSequence}, indexed by {@code newEmployeeIdTrie}.
+     */
+    private void replaceContents(EmployeeSequence newSequence, EmployeeIdTrie newEmployeeIdTrie) {
+        List<Employee> replaced = sequence.asList();
+        sequence = newSequence;
+        employeeIdTrie = newEmployeeIdTrie;
+        internalList.fireReset(replaced);
+    }
+
+    /**
+     * Returns a trie of {@code employees} whose order keys are {@code ORDER_KEY_SPACING} apart, as assigned by
+     * {@link EmployeeSequence#of}.
+     *
+     * @throws DuplicatePersonException if {@code employees} contains duplicate employees.
+     */
+    private static EmployeeIdTrie indexByEmployeeId(List<Employee> employees) {
+        EmployeeIdTrie trie = new EmployeeIdTrie();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (trie.get(employee.getEmployeeId().value) != null) {
+                throw new DuplicatePersonException();
+            }
+            trie.add(employee, i * ORDER_KEY_SPACING);
         }
-        internalList.setAll(employees);
+        return trie;
     }
 
     /**
@@ -152,7 +260,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
 
     @Override
     public Iterator<Employee> iterator() {
-        return internalList.iterator();
+        return sequence.iterator();
     }
 
     @Override
@@ -180,20 +288,6 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code employees} contains only unique employees.
-     */
-    private boolean personsAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).isSameEmployee(employees.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     /**
      * Returns a list of pairs of employee IDs that have prefix conflicts.
      * @return list of pairs of employee IDs with prefix conflicts
@@ -222,7 +316,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean hasEmployeeIdPrefixConflict(EmployeeId employeeId) {
         requireNonNull(employeeId);
-        return internalList.stream().anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return employeeIdTrie.hasPrefixConflict(employeeId.value, null);
     }
 
     /**
@@ -237,10 +331,91 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore) {
         requireNonNull(employeeId);
         requireNonNull(toIgnore);
-        return internalList.stream()
-                .filter(person -> !person.getEmployeeId().equals(toIgnore))
-                .anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return employeeIdTrie.hasPrefixConflict(employeeId.value, toIgnore.value);
+    }
+
+    /**
+     * Returns the number of pairs of employees in the list whose employee IDs conflict by prefix.
+     * The count is maintained incrementally, so this is an O(1) read.
+     */
+    public long getEmployeeIdPrefixConflictCount() {
+        return employeeIdTrie.getConflictingPairCount();
+    }
+
+    /**
+     * Returns all employees whose employee ID starts with {@code employeeIdPrefix},
+     * in lexicographic order of their employee IDs.
+     */
+    public List<Employee> getEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employeeIdTrie.getWithPrefix(employeeIdPrefix.value);
+    }
+
+    /**
+     * Returns the number of employees whose employee ID starts with {@code employeeIdPrefix}.
+     */
+    public int countEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employeeIdTrie.countWithPrefix(employeeIdPrefix.value);
+    }
+
+    /**
+     * Returns the employee whose employee ID starts with {@code employeeIdPrefix} if exactly one such employee
+     * exists, otherwise an empty {@code Optional}.
+     */
+    public Optional<Employee> getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employeeIdTrie.getUniqueWithPrefix(employeeIdPrefix.value);
     }
 
 
+    /**
+     * An observable view of the employees in list order, reading straight from {@code sequence}.
+     * Each read by position takes O(log n).
+     */
+    private class EmployeeListView extends ObservableListBase<Employee> {
+        @Override
+        public Employee get(int index) {
+            return sequence.get(index);
+        }
+
+        @Override
+        public int size() {
+            return sequence.size();
+        }
+
+        @Override
+        public Iterator<Employee> iterator() {
+            return sequence.iterator();
+        }
+
+        void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void fireReplaced(int index, Employee replaced) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+
+        void fireRemoved(int index, Employee removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void fireReset(List<Employee> replaced) {
+            beginChange();
+            if (!replaced.isEmpty()) {
+                nextRemove(0, replaced);
+            }
+            if (!sequence.isEmpty()) {
+                nextAdd(0, sequence.size());
+            }
+            endChange();
+        }
+    }
 }
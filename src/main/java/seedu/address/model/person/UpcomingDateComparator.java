@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Orders employees by their next upcoming date as seen from a fixed day, then by employee ID.
+ * Employees without any upcoming date come last.
+ *
+ * The sort key of each employee is the epoch day of {@link Employee#getNextUpcomingDate(LocalDate)}. It is
+ * computed the first time the employee is compared and cached by identity, so a comparison does not walk
+ * the anniversaries of either employee. Employees are replaced rather than changed, so a cached key stays
+ * valid; it should be {@link #forget forgotten} once its employee leaves the address book, so it is not held.
+ */
+public class UpcomingDateComparator implements Comparator<Employee> {
+
+    private static final long NO_UPCOMING_DATE = Long.MAX_VALUE;
+
+    private final LocalDate today;
+    private final Map<Employee, Long> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates a comparator that counts upcoming dates from {@code today}.
+     */
+    public UpcomingDateComparator(LocalDate today) {
+        this.today = requireNonNull(today);
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Returns the epoch day of the next upcoming date of {@code employee}, or {@code Long.MAX_VALUE} if there is
+     * none.
+     */
+    public long getKey(Employee employee) {
+        return keys.computeIfAbsent(employee, this::computeKey);
+    }
+
+    /**
+     * Drops the cached key of {@code employee}, so that it is recomputed on the next comparison.
+     */
+    public void forget(Employee employee) {
+        keys.remove(employee);
+    }
+
+    /**
+     * Drops all cached keys.
+     */
+    public void clear() {
+        keys.clear();
+    }
+
+    @Override
+    public int compare(Employee first, Employee second) {
+        int byKey = Long.compare(getKey(first), getKey(second));
+        if (byKey != 0) {
+            return byKey;
+        }
+        return first.getEmployeeId().value.compareTo(second.getEmployeeId().value);
+    }
+
+    private long computeKey(Employee employee) {
+        LocalDate nextDate = employee.getNextUpcomingDate(today);
+        return nextDate == null ? NO_UPCOMING_DATE : nextDate.toEpochDay();
+    }
+}
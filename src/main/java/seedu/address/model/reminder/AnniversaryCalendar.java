@@ -0,0 +1,158 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * An index of employees by the calendar days (month and day) on which their anniversaries recur.
+ *
+ * The calendar has one bucket per day of a leap year. Each bucket holds the employees that have at least
+ * one anniversary on that day, so finding the reminders for the next N days only visits N buckets
+ * instead of every anniversary on file.
+ */
+public class AnniversaryCalendar {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    /** Any leap year works as the reference year for mapping a month and day to a bucket. */
+    private static final int REFERENCE_LEAP_YEAR = 2000;
+    private static final MonthDay LEAP_DAY = MonthDay.of(Month.FEBRUARY, 29);
+
+    private final List<Map<EmployeeId, Employee>> buckets = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+
+    /**
+     * Creates an empty calendar.
+     */
+    public AnniversaryCalendar() {
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Indexes every anniversary of {@code employee}.
+     */
+    public void add(Employee employee) {
+        requireNonNull(employee);
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            if (anniversary.getDate() != null) {
+                getBucket(MonthDay.from(anniversary.getDate())).put(employee.getEmployeeId(), employee);
+            }
+        }
+    }
+
+    /**
+     * Removes every anniversary of {@code employee} from the calendar.
+     * {@code employee} must have the same anniversaries as when it was added.
+     */
+    public void remove(Employee employee) {
+        requireNonNull(employee);
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            if (anniversary.getDate() != null) {
+                getBucket(MonthDay.from(anniversary.getDate())).remove(employee.getEmployeeId());
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the calendar with the anniversaries of {@code employees}.
+     */
+    public void setEmployees(List<Employee> employees) {
+        requireNonNull(employees);
+        buckets.forEach(Map::clear);
+        employees.forEach(this::add);
+    }
+
+    /**
+     * Passes every occurrence of an indexed anniversary from {@code from} to {@code to}, both inclusive,
+     * to {@code consumer} in chronological order. Only the buckets for the days in range are visited.
+     */
+    public void forEachOccurrenceBetween(LocalDate from, LocalDate to, OccurrenceConsumer consumer) {
+        requireAllNonNull(from, to, consumer);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            forEachOccurrenceOn(MonthDay.from(day), day, consumer);
+            if (isFeb28InCommonYear(day)) {
+                // Feb 29 anniversaries are celebrated on Feb 28 in common years
+                forEachOccurrenceOn(LEAP_DAY, day, consumer);
+            }
+        }
+    }
+
+    /**
+     * Passes every occurrence of an anniversary of {@code employee} from {@code from} to {@code to},
+     * both inclusive, to {@code consumer}. The employee does not need to be indexed.
+     */
+    public static void forEachOccurrenceOf(Employee employee, LocalDate from, LocalDate to,
+                                           OccurrenceConsumer consumer) {
+        requireAllNonNull(employee, from, to, consumer);
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            LocalDate date = getNextOccurrence(anniversary.getDate(), from);
+            while (date != null && !date.isAfter(to)) {
+                consumer.accept(employee, anniversary, date);
+                date = getNextOccurrence(anniversary.getDate(), date.plusDays(1));
+            }
+        }
+    }
+
+    /**
+     * Returns the next occurrence of a recurring annual date on or after {@code today}.
+     * A date that is still in the future is returned as-is. A Feb 29 date falls on Feb 28 in common years.
+     *
+     * @return the next occurrence, or {@code null} if {@code date} is {@code null}.
+     */
+    public static LocalDate getNextOccurrence(LocalDate date, LocalDate today) {
+        requireNonNull(today);
+        if (date == null) {
+            return null;
+        }
+        if (date.isAfter(today)) {
+            return date;
+        }
+
+        LocalDate occurrenceThisYear = date.withYear(today.getYear());
+        return occurrenceThisYear.isBefore(today) ? date.withYear(today.getYear() + 1) : occurrenceThisYear;
+    }
+
+    /**
+     * Passes each anniversary recurring on {@code calendarDay} whose next occurrence is {@code day} to
+     * {@code consumer}.
+     */
+    private void forEachOccurrenceOn(MonthDay calendarDay, LocalDate day, OccurrenceConsumer consumer) {
+        for (Employee employee : getBucket(calendarDay).values()) {
+            for (Anniversary anniversary : employee.getAnniversaries()) {
+                LocalDate date = anniversary.getDate();
+                if (date != null && MonthDay.from(date).equals(calendarDay)
+                        && day.equals(getNextOccurrence(date, day))) {
+                    consumer.accept(employee, anniversary, day);
+                }
+            }
+        }
+    }
+
+    private Map<EmployeeId, Employee> getBucket(MonthDay calendarDay) {
+        return buckets.get(calendarDay.atYear(REFERENCE_LEAP_YEAR).getDayOfYear() - 1);
+    }
+
+    private static boolean isFeb28InCommonYear(LocalDate date) {
+        return !date.isLeapYear() && MonthDay.from(date).equals(MonthDay.of(Month.FEBRUARY, 28));
+    }
+
+    /**
+     * Receives one occurrence of an employee's anniversary.
+     */
+    @FunctionalInterface
+    public interface OccurrenceConsumer {
+        void accept(Employee employee, Anniversary anniversary, LocalDate date);
+    }
+}
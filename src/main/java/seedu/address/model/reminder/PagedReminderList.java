@@ -0,0 +1,367 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+
+/**
+ * An observable, chronologically ordered list of the reminders for a window of days.
+ *
+ * The occurrences in the window are kept in compact parallel arrays, and {@code Reminder} objects are only
+ * created a page at a time when an element is read. A list view that shows a handful of cells therefore only
+ * materializes the pages it displays, however many anniversaries fall within the window.
+ */
+public class PagedReminderList extends ObservableListBase<Reminder> {
+
+    private static final int PAGE_SIZE = 64;
+    private static final int MAX_CACHED_PAGES = 16;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final AnniversaryCalendar calendar;
+
+    private LocalDate from;
+    private LocalDate to;
+    /** The day that the days left of each reminder are counted from. */
+    private long todayEpochDay;
+    private int size;
+    private Employee[] employees = new Employee[0];
+    private Anniversary[] anniversaries = new Anniversary[0];
+    /** The epoch day of each occurrence, in non-decreasing order. */
+    private long[] epochDays = new long[0];
+
+    private final Map<Integer, Reminder[]> pages = new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Reminder[]> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    /**
+     * Creates an empty list whose window will be filled from {@code calendar}.
+     */
+    public PagedReminderList(AnniversaryCalendar calendar) {
+        this.calendar = requireNonNull(calendar);
+    }
+
+    /**
+     * Returns the first day of the current window, or {@code null} if no window has been set.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the last day of the current window, or {@code null} if no window has been set.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the day that the days left of each reminder are counted from, or {@code null} if no window
+     * has been set.
+     */
+    public LocalDate getToday() {
+        return from == null ? null : LocalDate.ofEpochDay(todayEpochDay);
+    }
+
+    /**
+     * Replaces the contents of the list with the occurrences from {@code from} to {@code to}, both inclusive.
+     * The days left of each reminder are counted from {@code today}.
+     */
+    public void setWindow(LocalDate from, LocalDate to, LocalDate today) {
+        requireAllNonNull(from, to, today);
+        WindowSnapshot oldContents = snapshot();
+
+        this.from = from;
+        this.to = to;
+        todayEpochDay = today.toEpochDay();
+        size = 0;
+        employees = new Employee[INITIAL_CAPACITY];
+        anniversaries = new Anniversary[INITIAL_CAPACITY];
+        epochDays = new long[INITIAL_CAPACITY];
+        appendOccurrencesBetween(from, to);
+        pages.clear();
+        fireContentsReplaced(oldContents);
+    }
+
+    /**
+     * Moves the list on to {@code today}, updating the days left of every reminder.
+     * If {@code isWindowMoving} is true, the window is also shifted so that it starts on {@code today}:
+     * the occurrences of the days that have passed are dropped and those of the newly covered days are
+     * appended, without revisiting the days that both windows share.
+     */
+    public void advanceTo(LocalDate today, boolean isWindowMoving) {
+        requireNonNull(today);
+        if (from == null) {
+            return;
+        }
+        long shift = today.toEpochDay() - from.toEpochDay();
+        if (isWindowMoving && (shift < 0 || from.plusDays(shift).isAfter(to))) {
+            // The new window does not overlap the old one
+            setWindow(today, today.plusDays(to.toEpochDay() - from.toEpochDay()), today);
+            return;
+        }
+
+        WindowSnapshot oldContents = snapshot();
+        if (isWindowMoving && shift > 0) {
+            int droppedCount = findFirstIndexAfter(today.toEpochDay() - 1);
+            int capacity = Math.max(size, INITIAL_CAPACITY);
+            employees = Arrays.copyOfRange(employees, droppedCount, capacity);
+            anniversaries = Arrays.copyOfRange(anniversaries, droppedCount, capacity);
+            epochDays = Arrays.copyOfRange(epochDays, droppedCount, capacity);
+            size -= droppedCount;
+
+            LocalDate oldTo = to;
+            from = today;
+            to = oldTo.plusDays(shift);
+            appendOccurrencesBetween(oldTo.plusDays(1), to);
+        }
+        todayEpochDay = today.toEpochDay();
+        pages.clear();
+        // The kept reminders have new days left, so every position in the window changes
+        fireContentsReplaced(oldContents);
+    }
+
+    /**
+     * Replaces the occurrences of {@code removed} in the window with those of {@code added}.
+     * Only the affected positions change, and listeners are told about exactly those positions.
+     *
+     * @param removed the employee whose occurrences should be dropped, or {@code null} if none.
+     * @param added the employee whose occurrences should be inserted, or {@code null} if none.
+     */
+    public void replaceEmployee(Employee removed, Employee added) {
+        if (from == null) {
+            return;
+        }
+        pages.clear();
+        beginChange();
+        if (removed != null) {
+            AnniversaryCalendar.forEachOccurrenceOf(removed, from, to, (employee, anniversary, date) ->
+                    removeOccurrencesOn(date.toEpochDay(), removed));
+        }
+        if (added != null) {
+            AnniversaryCalendar.forEachOccurrenceOf(added, from, to, (employee, anniversary, date) -> {
+                int index = findFirstIndexAfter(date.toEpochDay());
+                insertEntry(index, employee, anniversary, date.toEpochDay());
+                nextAdd(index, index + 1);
+            });
+        }
+        endChange();
+    }
+
+    @Override
+    public Reminder get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Reminder[] page = pages.computeIfAbsent(index / PAGE_SIZE, this::loadPage);
+        return page[index % PAGE_SIZE];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells listeners that {@code oldContents} were replaced by the whole of the current contents.
+     * The change is fired directly rather than through {@code nextRemove} or {@code nextReplace}, which would
+     * copy every old element and so create a {@code Reminder} for each of them.
+     */
+    private void fireContentsReplaced(WindowSnapshot oldContents) {
+        if (!oldContents.isEmpty() || size > 0) {
+            fireChange(new ContentsReplacedChange(this, oldContents));
+        }
+    }
+
+    private void appendOccurrencesBetween(LocalDate start, LocalDate end) {
+        calendar.forEachOccurrenceBetween(start, end, (employee, anniversary, date) ->
+                insertEntry(size, employee, anniversary, date.toEpochDay()));
+    }
+
+    /**
+     * Removes every occurrence of {@code employee} on {@code epochDay}.
+     * Does nothing if they were already removed for an earlier anniversary on the same day.
+     */
+    private void removeOccurrencesOn(long epochDay, Employee employee) {
+        int start = findFirstIndexAfter(epochDay - 1);
+        for (int i = findFirstIndexAfter(epochDay) - 1; i >= start; i--) {
+            if (employees[i].isSameEmployee(employee)) {
+                Reminder reminder = createReminder(employees[i], anniversaries[i], epochDays[i], todayEpochDay);
+                removeEntry(i);
+                nextRemove(i, reminder);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence after {@code epochDay}, or the size of the list if there is none.
+     */
+    private int findFirstIndexAfter(long epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] > epochDay) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private void insertEntry(int index, Employee employee, Anniversary anniversary, long epochDay) {
+        if (size == employees.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            employees = Arrays.copyOf(employees, capacity);
+            anniversaries = Arrays.copyOf(anniversaries, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+        }
+        System.arraycopy(employees, index, employees, index + 1, size - index);
+        System.arraycopy(anniversaries, index, anniversaries, index + 1, size - index);
+        System.arraycopy(epochDays, index, epochDays, index + 1, size - index);
+        employees[index] = employee;
+        anniversaries[index] = anniversary;
+        epochDays[index] = epochDay;
+        size++;
+    }
+
+    private void removeEntry(int index) {
+        System.arraycopy(employees, index + 1, employees, index, size - index - 1);
+        System.arraycopy(anniversaries, index + 1, anniversaries, index, size - index - 1);
+        System.arraycopy(epochDays, index + 1, epochDays, index, size - index - 1);
+        size--;
+        employees[size] = null;
+        anniversaries[size] = null;
+    }
+
+    private Reminder[] loadPage(int pageIndex) {
+        int start = pageIndex * PAGE_SIZE;
+        Reminder[] page = new Reminder[Math.min(PAGE_SIZE, size - start)];
+        for (int i = 0; i < page.length; i++) {
+            page[i] = createReminder(employees[start + i], anniversaries[start + i], epochDays[start + i],
+                    todayEpochDay);
+        }
+        return page;
+    }
+
+    /**
+     * Returns a view of the current contents, which stays valid as long as the arrays are replaced
+     * rather than modified in place.
+     */
+    private WindowSnapshot snapshot() {
+        return new WindowSnapshot(employees, anniversaries, epochDays, size, todayEpochDay);
+    }
+
+    private static Reminder createReminder(Employee employee, Anniversary anniversary, long epochDay,
+                                           long todayEpochDay) {
+        return new Reminder(employee, LocalDate.ofEpochDay(epochDay), anniversary.getType(),
+                anniversary.getDescription(), epochDay - todayEpochDay);
+    }
+
+    /**
+     * A change that replaces the whole list, whose removed elements are only created if a listener reads them.
+     */
+    private static class ContentsReplacedChange extends ListChangeListener.Change<Reminder> {
+        private final List<Reminder> removed;
+        private boolean isOnChange;
+        private boolean isDone;
+
+        ContentsReplacedChange(ObservableList<Reminder> list, List<Reminder> removed) {
+            super(list);
+            this.removed = removed;
+        }
+
+        @Override
+        public boolean next() {
+            isOnChange = !isDone;
+            isDone = true;
+            return isOnChange;
+        }
+
+        @Override
+        public void reset() {
+            isOnChange = false;
+            isDone = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return getList().size();
+        }
+
+        @Override
+        public List<Reminder> getRemoved() {
+            checkState();
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return new int[0];
+        }
+
+        private void checkState() {
+            if (!isOnChange) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting"
+                        + " the Change.");
+            }
+        }
+    }
+
+    /**
+     * A read-only view of the contents of a replaced window, used to report the removed elements to listeners.
+     * Each element is created when it is read.
+     */
+    private static class WindowSnapshot extends AbstractList<Reminder> {
+        private final Employee[] employees;
+        private final Anniversary[] anniversaries;
+        private final long[] epochDays;
+        private final int size;
+        private final long todayEpochDay;
+
+        WindowSnapshot(Employee[] employees, Anniversary[] anniversaries, long[] epochDays, int size,
+                       long todayEpochDay) {
+            this.employees = employees;
+            this.anniversaries = anniversaries;
+            this.epochDays = epochDays;
+            this.size = size;
+            this.todayEpochDay = todayEpochDay;
+        }
+
+        @Override
+        public Reminder get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return createReminder(employees[index], anniversaries[index], epochDays[index], todayEpochDay);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
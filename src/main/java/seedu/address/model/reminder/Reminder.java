@@ -1,7 +1,6 @@
 package seedu.address.model.reminder;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 import seedu.address.model.anniversary.AnniversaryType;
 import seedu.address.model.person.Employee;
@@ -12,6 +11,7 @@ import seedu.address.model.person.Employee;
  *
  * A {@code Reminder} contains the type and description of the anniversary,
  * the upcoming date of occurrence, and the associated employee.
+ * The number of days left is fixed when the reminder is created, so rendering a reminder never reads the clock.
  */
 public class Reminder implements Comparable<Reminder> {
 
@@ -19,6 +19,7 @@ public class Reminder implements Comparable<Reminder> {
     private final LocalDate date;
     private final AnniversaryType type;
     private final String description;
+    private final long daysLeft;
 
     /**
      * Constructs a {@code Reminder}.
@@ -27,12 +28,14 @@ public class Reminder implements Comparable<Reminder> {
      * @param date        The upcoming date of the anniversary.
      * @param type        The type of the anniversary (e.g., Birthday, Work Anniversary).
      * @param description A short description for the anniversary.
+     * @param daysLeft    The number of days from today until {@code date}.
      */
-    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description) {
+    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description, long daysLeft) {
         this.employee = employee;
         this.date = date;
         this.type = type;
         this.description = description;
+        this.daysLeft = daysLeft;
     }
 
     /**
@@ -64,12 +67,12 @@ public class Reminder implements Comparable<Reminder> {
     }
 
     /**
-     * Calculates how many days are left from today until this reminder's anniversary.
+     * Returns how many days are left from the day this reminder was created for until its anniversary.
      *
      * @return Number of days remaining.
      */
     public long getDaysLeft() {
-        return ChronoUnit.DAYS.between(LocalDate.now(), date);
+        return daysLeft;
     }
 
     /**
@@ -24,11 +24,24 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isToBeValidated) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isToBeValidated) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of {@code tagName}, which must already be known to be valid, without validating it again.
+     */
+    public static Tag ofValidated(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
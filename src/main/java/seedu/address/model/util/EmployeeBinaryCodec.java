@@ -0,0 +1,312 @@
+package seedu.address.model.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes employees to and reads them from the compact binary record shared by binary snapshots of the data file
+ * and by the undo history kept on disk.
+ *
+ * A record holds the employee ID, name, phone and email, the job position, the number of tags and the tags, and
+ * the number of anniversaries and the anniversaries. An anniversary holds flags telling whether it has a date and
+ * a type, the date as an epoch day, the name and description of the type, and its own description and name.
+ * Job positions, tags and anniversary types are shared strings, which many employees have in common; how they are
+ * stored, for instance as references into a string table, is up to the {@link RecordOutput}.
+ */
+public class EmployeeBinaryCodec {
+
+    public static final String MESSAGE_MALFORMED = "Employee record is malformed.";
+
+    private static final int HAS_DATE = 1;
+    private static final int HAS_TYPE = 2;
+
+    /**
+     * Writes the values that make up a record.
+     */
+    public interface RecordOutput {
+        /** Writes an unsigned varint. */
+        void writeVarint(long value) throws IOException;
+
+        /** Writes a string that must not be {@code null}. */
+        void writeString(String value) throws IOException;
+
+        /** Writes a string that may be {@code null}. */
+        void writeNullableString(String value) throws IOException;
+
+        /** Writes a string that may be {@code null} and that many records have in common. */
+        void writeSharedString(String value) throws IOException;
+    }
+
+    /**
+     * Reads the values written by a {@link RecordOutput} of the same kind.
+     */
+    public interface RecordInput {
+        int readVarint() throws IOException;
+
+        long readVarlong() throws IOException;
+
+        String readString() throws IOException;
+
+        String readNullableString() throws IOException;
+
+        String readSharedString() throws IOException;
+    }
+
+    /**
+     * Builds an employee, or a form of it, from the values of a record that have not been validated.
+     */
+    @FunctionalInterface
+    public interface RecordBuilder<T> {
+        T build(String employeeId, String name, String phone, String email, String jobPosition, List<String> tags,
+                List<Anniversary> anniversaries);
+    }
+
+    /**
+     * Writes {@code employee} to {@code out} as a record.
+     */
+    public static void write(RecordOutput out, Employee employee) throws IOException {
+        requireNonNull(employee);
+        out.writeString(employee.getEmployeeId().value);
+        out.writeString(employee.getName().fullName);
+        out.writeString(employee.getPhone().value);
+        out.writeString(employee.getEmail().value);
+        out.writeSharedString(employee.getJobPosition().value);
+
+        out.writeVarint(employee.getTags().size());
+        for (Tag tag : employee.getTags()) {
+            out.writeSharedString(tag.tagName);
+        }
+
+        List<Anniversary> anniversaries = employee.getAnniversaries();
+        out.writeVarint(anniversaries.size());
+        for (Anniversary anniversary : anniversaries) {
+            LocalDate date = anniversary.getDate();
+            AnniversaryType type = anniversary.getType();
+            out.writeVarint((date != null ? HAS_DATE : 0) | (type != null ? HAS_TYPE : 0));
+            if (date != null) {
+                out.writeVarint(zigzag(date.toEpochDay()));
+            }
+            if (type != null) {
+                out.writeSharedString(type.getName());
+                out.writeSharedString(type.getDescription());
+            }
+            out.writeNullableString(anniversary.getDescription());
+            out.writeNullableString(anniversary.getName());
+        }
+    }
+
+    /**
+     * Reads a record from {@code in} and hands its values to {@code builder}.
+     *
+     * @throws IOException if the record cannot be read or is malformed.
+     */
+    public static <T> T read(RecordInput in, RecordBuilder<T> builder) throws IOException {
+        String employeeId = in.readString();
+        String name = in.readString();
+        String phone = in.readString();
+        String email = in.readString();
+        String jobPosition = requireShared(in.readSharedString());
+
+        int tagCount = in.readVarint();
+        List<String> tags = new ArrayList<>(Math.min(tagCount, 16));
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(requireShared(in.readSharedString()));
+        }
+
+        int anniversaryCount = in.readVarint();
+        List<Anniversary> anniversaries = new ArrayList<>(Math.min(anniversaryCount, 16));
+        for (int i = 0; i < anniversaryCount; i++) {
+            anniversaries.add(readAnniversary(in));
+        }
+        return builder.build(employeeId, name, phone, email, jobPosition, tags, anniversaries);
+    }
+
+    /**
+     * Returns a builder of employees from records known to hold valid values, such as those this application
+     * wrote from its own model, which it does not validate again. Each job position and tag is created once for
+     * all the employees the builder builds.
+     */
+    public static RecordBuilder<Employee> validatedEmployeeBuilder() {
+        Map<String, JobPosition> jobPositions = new HashMap<>();
+        Map<String, Tag> tags = new HashMap<>();
+        return (employeeId, name, phone, email, jobPosition, tagNames, anniversaries) -> {
+            Set<Tag> employeeTags = new HashSet<>();
+            for (String tagName : tagNames) {
+                employeeTags.add(tags.computeIfAbsent(tagName, Tag::ofValidated));
+            }
+            return new Employee(EmployeeId.fromString(employeeId), Name.ofValidated(name), Phone.ofValidated(phone),
+                    Email.ofValidated(email), jobPositions.computeIfAbsent(jobPosition, JobPosition::ofValidated),
+                    employeeTags, anniversaries);
+        };
+    }
+
+    /**
+     * Writes {@code employee} to {@code out} as a record, with its shared strings written in full.
+     */
+    public static void write(DataOutput out, Employee employee) throws IOException {
+        write(new DataRecordOutput(out), employee);
+    }
+
+    /**
+     * Reads an employee written by {@link #write(DataOutput, Employee)} from {@code in}, without validating it.
+     */
+    public static Employee read(DataInput in) throws IOException {
+        return read(new DataRecordInput(in), validatedEmployeeBuilder());
+    }
+
+    private static Anniversary readAnniversary(RecordInput in) throws IOException {
+        int flags = in.readVarint();
+        LocalDate date = null;
+        if ((flags & HAS_DATE) != 0) {
+            try {
+                date = LocalDate.ofEpochDay(unzigzag(in.readVarlong()));
+            } catch (DateTimeException e) {
+                throw new IOException(MESSAGE_MALFORMED, e);
+            }
+        }
+        AnniversaryType type = null;
+        if ((flags & HAS_TYPE) != 0) {
+            String typeName = in.readSharedString();
+            String typeDescription = in.readSharedString();
+            type = new AnniversaryType(typeName, typeDescription);
+        }
+        String description = in.readNullableString();
+        String anniversaryName = in.readNullableString();
+        return new Anniversary(date, type, description, anniversaryName);
+    }
+
+    private static String requireShared(String value) throws IOException {
+        if (value == null) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes records to a {@code DataOutput}, with strings as their length in UTF-8 bytes followed by the bytes.
+     */
+    private static class DataRecordOutput implements RecordOutput {
+        private final DataOutput out;
+
+        DataRecordOutput(DataOutput out) {
+            this.out = out;
+        }
+
+        @Override
+        public void writeVarint(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        @Override
+        public void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public void writeNullableString(String value) throws IOException {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarint(bytes.length + 1L);
+            out.write(bytes);
+        }
+
+        @Override
+        public void writeSharedString(String value) throws IOException {
+            writeNullableString(value);
+        }
+    }
+
+    /**
+     * Reads records written by a {@link DataRecordOutput} from a {@code DataInput}.
+     */
+    private static class DataRecordInput implements RecordInput {
+        private final DataInput in;
+
+        DataRecordInput(DataInput in) {
+            this.in = in;
+        }
+
+        @Override
+        public int readVarint() throws IOException {
+            long value = readVarlong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            return (int) value;
+        }
+
+        @Override
+        public long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = in.readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+
+        @Override
+        public String readString() throws IOException {
+            return readBytes(readVarint());
+        }
+
+        @Override
+        public String readNullableString() throws IOException {
+            int lengthPlusOne = readVarint();
+            return lengthPlusOne == 0 ? null : readBytes(lengthPlusOne - 1);
+        }
+
+        @Override
+        public String readSharedString() throws IOException {
+            return readNullableString();
+        }
+
+        private String readBytes(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+    }
+}
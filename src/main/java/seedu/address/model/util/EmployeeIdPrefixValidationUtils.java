@@ -1,6 +1,9 @@
 package seedu.address.model.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
@@ -13,26 +16,45 @@ import seedu.address.model.person.EmployeeId;
 /**
  * utility class to validate employee IDs.
  * Currently only harvests internal checks for prefix conflicts.
+ *
+ * The IDs are sorted first. In sorted order, every ID that starts with some ID {@code a}
+ * directly follows {@code a}, so conflicts can be found in one pass instead of comparing every pair.
  */
 public class EmployeeIdPrefixValidationUtils {
 
     /**
      * Gets all pairs of employee IDs in the list that have prefix conflicts.
+     * In each pair, the first ID is a prefix of the second one.
+     * Runs in O(n log n) time plus the number of conflicting pairs.
+     *
      * @param employees the list of employees to check
      * @return list of conflicting pairs
      */
     public static List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairs(List<Employee> employees) {
         Objects.requireNonNull(employees);
+        List<EmployeeId> sortedIds = getSortedEmployeeIds(employees);
         List<Pair<EmployeeId, EmployeeId>> conflicts = new ArrayList<>();
-        for (int i = 0; i < employees.size(); i++) {
-            EmployeeId id1 = employees.get(i).getEmployeeId();
-            for (int j = i + 1; j < employees.size(); j++) {
-                EmployeeId id2 = employees.get(j).getEmployeeId();
-                if (id1.hasPrefixConflict(id2)) {
-                    conflicts.add(new Pair<>(id1, id2));
-                }
+
+        // IDs seen so far that are prefixes of the current ID, shortest at the bottom
+        Deque<EmployeeId> openPrefixes = new ArrayDeque<>();
+        for (EmployeeId id : sortedIds) {
+            while (!openPrefixes.isEmpty() && !openPrefixes.peek().isPrefixOf(id)) {
+                openPrefixes.pop();
+            }
+            for (EmployeeId prefix : openPrefixes) {
+                conflicts.add(new Pair<>(prefix, id));
             }
+            openPrefixes.push(id);
         }
         return conflicts;
     }
+
+    private static List<EmployeeId> getSortedEmployeeIds(List<Employee> employees) {
+        List<EmployeeId> ids = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            ids.add(employee.getEmployeeId());
+        }
+        ids.sort(Comparator.comparing(id -> id.value));
+        return ids;
+    }
 }
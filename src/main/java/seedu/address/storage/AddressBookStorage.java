@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Folds any changes kept apart from the data file, such as a journal of recent edits, into the data file,
+     * so that the data file alone holds the address book saved last.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compact() throws IOException;
+
 }
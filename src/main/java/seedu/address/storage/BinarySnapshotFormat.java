@@ -0,0 +1,690 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.util.EmployeeBinaryCodec;
+import seedu.address.model.util.EmployeeBinaryCodec.RecordInput;
+import seedu.address.model.util.EmployeeBinaryCodec.RecordOutput;
+
+/**
+ * Writes address books to and reads them from binary snapshots, which are several times smaller than the JSON
+ * data file and faster to read.
+ *
+ * A snapshot holds a magic number, the format version, the number of employees and the employees, followed by a
+ * table of the strings that many employees share (job positions, tags and anniversary types), a record index,
+ * the positions of the index and of the string table, and a CRC-32 checksum of everything before it. The table
+ * and the index come last so that a snapshot is written in a single pass over the employees.
+ *
+ * Each employee is stored as an {@link EmployeeBinaryCodec} record, with its shared strings stored as references
+ * into the string table.
+ *
+ * The record index, added in version 2, lets a snapshot be {@link #map mapped} without reading its records. For
+ * each employee, it holds the distance from the previous record to the employee's record, the employee ID, the
+ * name, the CRC-32 checksum of the record and the days of the year, in a leap year, on which the employee's dated
+ * anniversaries fall. The index is followed by the CRC-32 checksum of the string table and the index, so that a
+ * mapped snapshot is checked a record at a time rather than all at once. Version 2 has neither checksum, and
+ * cannot be mapped.
+ *
+ * Counts and lengths are unsigned varints, and dates are epoch days as zigzag varints. A nullable string, or a
+ * reference into the string table, is stored as one more than its length or index, with 0 meaning {@code null}.
+ */
+class BinarySnapshotFormat {
+
+    static final int VERSION = 3;
+    /** The first version whose record index holds the checksums that a mapped snapshot is checked against. */
+    static final int MAPPABLE_VERSION = 3;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "Data file is not a binary snapshot.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    static final String MESSAGE_MALFORMED = "Binary snapshot is malformed.";
+    static final String MESSAGE_NOT_MAPPABLE =
+            "Binary snapshot version %d cannot be mapped. Save the address book again to map it.";
+    static final String MESSAGE_RECORD_CHECKSUM_MISMATCH =
+            "Binary snapshot is damaged: a record does not match its checksum.";
+    static final String MESSAGE_TOO_LARGE_TO_MAP = "Binary snapshot is too large to be mapped into memory.";
+
+    /** The year on which the days of the year in the record index are counted, so that 29 February has one. */
+    static final int REFERENCE_LEAP_YEAR = 2000;
+
+    private static final byte[] MAGIC = {'H', 'R', 'B', 'S'};
+    /** The position of the string table and the checksum. */
+    private static final int FOOTER_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    /** The smallest number of bytes in an entry of the record index. */
+    private static final int MIN_INDEX_ENTRY_LENGTH = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a binary snapshot.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        Encoder index = new Encoder(indexBytes);
+        long previousRecordPosition = 0;
+
+        encoder.writeBytes(MAGIC);
+        encoder.writeVarint(VERSION);
+        List<Employee> employees = addressBook.getEmployeeList();
+        encoder.writeVarint(employees.size());
+        for (Employee employee : employees) {
+            long recordPosition = encoder.getPosition();
+            index.writeVarint(recordPosition - previousRecordPosition);
+            index.writeString(employee.getEmployeeId().value);
+            index.writeString(employee.getName().fullName);
+            previousRecordPosition = recordPosition;
+
+            encoder.startSection();
+            EmployeeBinaryCodec.write(encoder, employee);
+            index.writeVarint(encoder.endSection());
+            writeAnniversaryDays(index, employee.getAnniversaries());
+        }
+
+        long stringTablePosition = encoder.getPosition();
+        List<String> strings = encoder.getSharedStrings();
+        encoder.startSection();
+        encoder.writeVarint(strings.size());
+        for (String string : strings) {
+            encoder.writeString(string);
+        }
+        long indexPosition = encoder.getPosition();
+        index.flush();
+        encoder.writeBytes(indexBytes.toByteArray());
+        encoder.writeInt((int) encoder.endSection());
+        encoder.writeLong(indexPosition);
+        encoder.writeLong(stringTablePosition);
+        encoder.writeChecksum();
+    }
+
+    private static void writeAnniversaryDays(Encoder index, List<Anniversary> anniversaries) throws IOException {
+        int datedCount = 0;
+        for (Anniversary anniversary : anniversaries) {
+            if (anniversary.getDate() != null) {
+                datedCount++;
+            }
+        }
+        index.writeVarint(datedCount);
+        for (Anniversary anniversary : anniversaries) {
+            LocalDate date = anniversary.getDate();
+            if (date != null) {
+                index.writeVarint(MonthDay.from(date).atYear(REFERENCE_LEAP_YEAR).getDayOfYear());
+            }
+        }
+    }
+
+    /**
+     * Reads the binary snapshot at {@code file}, converting the employees on {@code pool}.
+     * The employees are validated as if they had been read from the JSON data file.
+     *
+     * @throws IOException if the file cannot be read or is not a binary snapshot.
+     * @throws IllegalValueException if the snapshot holds data that violate the model's constraints.
+     * @throws DataLoadingException if the snapshot does not match its checksum.
+     */
+    static AddressBook read(Path file, ForkJoinPool pool)
+            throws IOException, IllegalValueException, DataLoadingException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel, 0, pool);
+        }
+    }
+
+    /**
+     * Reads the binary snapshot that takes up {@code channel} from {@code start} to its end, without validating
+     * the employees again. This is only safe for a snapshot written by this application of an address book that
+     * was validated when it was loaded, as in a cache of the data file; the snapshot is still checked against its
+     * checksum.
+     *
+     * @throws IOException if the file cannot be read or is not a binary snapshot.
+     * @throws DataLoadingException if the snapshot does not match its checksum.
+     */
+    static AddressBook readValidated(FileChannel channel, long start) throws IOException, DataLoadingException {
+        try {
+            return read(channel, start, null);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Employees are not validated", e);
+        }
+    }
+
+    /**
+     * Reads the binary snapshot that takes up {@code channel} from {@code start} to its end, converting the
+     * employees on {@code pool}, or without validating them if {@code pool} is {@code null}.
+     */
+    private static AddressBook read(FileChannel channel, long start, ForkJoinPool pool)
+            throws IOException, IllegalValueException, DataLoadingException {
+        long bodyLength = channel.size() - start - FOOTER_LENGTH;
+        if (bodyLength < MAGIC.length) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        // The checksum covers the position of the string table too
+        Decoder decoder = new Decoder(channel, start, start + bodyLength + Long.BYTES);
+        if (!Arrays.equals(MAGIC, decoder.readBytes(MAGIC.length))) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        try {
+            return read(channel, decoder, start, bodyLength, pool);
+        } catch (IOException | IllegalValueException e) {
+            // A damaged snapshot is reported as such, rather than by whichever error its damage causes first
+            decoder.verify();
+            throw e;
+        }
+    }
+
+    private static AddressBook read(FileChannel channel, Decoder decoder, long start, long bodyLength,
+            ForkJoinPool pool) throws IOException, IllegalValueException, DataLoadingException {
+        int version = decoder.readVarint();
+        if (version < 1 || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        ByteBuffer footer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, footer, start + bodyLength);
+        long stringTablePosition = footer.getLong(0);
+        if (stringTablePosition < 0 || stringTablePosition > bodyLength) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        decoder.setSharedStrings(
+                readStringTable(new Decoder(channel, start + stringTablePosition, start + bodyLength)));
+
+        int employeeCount = decoder.readVarint();
+        List<Employee> employees = new ArrayList<>();
+        if (pool == null) {
+            EmployeeBinaryCodec.RecordBuilder<Employee> builder = EmployeeBinaryCodec.validatedEmployeeBuilder();
+            for (int i = 0; i < employeeCount; i++) {
+                employees.add(EmployeeBinaryCodec.read(decoder, builder));
+            }
+        } else {
+            try (ParallelEmployeeConverter converter = new ParallelEmployeeConverter(pool)) {
+                for (int i = 0; i < employeeCount; i++) {
+                    converter.add(EmployeeBinaryCodec.read(decoder, BinarySnapshotFormat::toPerson));
+                }
+                employees = converter.finish();
+            }
+        }
+        if (decoder.getPosition() != start + stringTablePosition) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        decoder.verify();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEmployees(employees);
+        return addressBook;
+    }
+
+    private static String[] readStringTable(Decoder decoder) throws IOException {
+        int count = decoder.readVarint();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            strings.add(decoder.readString());
+        }
+        return strings.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the values of a record as a {@code JsonAdaptedPerson}, so that they are validated like those of the
+     * JSON data file.
+     */
+    private static JsonAdaptedPerson toPerson(String employeeId, String name, String phone, String email,
+            String jobPosition, List<String> tagNames, List<Anniversary> anniversaries) {
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            tags.add(new JsonAdaptedTag(tagName));
+        }
+        List<JsonAdaptedAnniversary> adaptedAnniversaries = new ArrayList<>(anniversaries.size());
+        for (Anniversary anniversary : anniversaries) {
+            adaptedAnniversaries.add(new JsonAdaptedAnniversary(anniversary));
+        }
+        return new JsonAdaptedPerson(employeeId, name, phone, email, jobPosition, tags, adaptedAnniversaries);
+    }
+
+    /**
+     * Maps the binary snapshot at {@code file} into memory, reading only its string table and record index, which
+     * are checked against their checksum. The employees are decoded by {@link #readEmployee} when they are first
+     * needed, and each record is checked against its own checksum then.
+     *
+     * @throws IOException if the file cannot be read, is not a binary snapshot or cannot be mapped.
+     * @throws DataLoadingException if the string table and the record index do not match their checksum.
+     */
+    static MappedAddressBook map(Path file) throws IOException, DataLoadingException {
+        MappedByteBuffer snapshot;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_TOO_LARGE_TO_MAP);
+            }
+            snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int bodyLength = snapshot.capacity() - FOOTER_LENGTH;
+        if (bodyLength < MAGIC.length) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        Decoder header = new Decoder(snapshot.slice(0, bodyLength));
+        if (!Arrays.equals(MAGIC, header.readBytes(MAGIC.length))) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = header.readVarint();
+        if (version >= 1 && version < MAPPABLE_VERSION) {
+            throw new IOException(String.format(MESSAGE_NOT_MAPPABLE, version));
+        } else if (version < 1 || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int employeeCount = header.readVarint();
+
+        int indexEnd = bodyLength - Long.BYTES - Integer.BYTES;
+        long indexPosition = indexEnd < header.getPosition() ? -1 : snapshot.getLong(indexEnd + Integer.BYTES);
+        long stringTablePosition = snapshot.getLong(bodyLength);
+        if (stringTablePosition < header.getPosition() || stringTablePosition > indexPosition
+                || indexPosition > indexEnd) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.slice((int) stringTablePosition, indexEnd - (int) stringTablePosition));
+        if ((snapshot.getInt(indexEnd) & 0xFFFFFFFFL) != crc.getValue()) {
+            throw DataFileChecksum.checksumMismatch();
+        }
+        String[] strings = readStringTable(new Decoder(snapshot.slice((int) stringTablePosition,
+                (int) (indexPosition - stringTablePosition))));
+
+        Decoder index = new Decoder(snapshot.slice((int) indexPosition, indexEnd - (int) indexPosition));
+        if (employeeCount > (indexEnd - indexPosition) / MIN_INDEX_ENTRY_LENGTH) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        int[] recordPositions = new int[employeeCount];
+        int[] recordChecksums = new int[employeeCount];
+        String[] employeeIds = new String[employeeCount];
+        String[] names = new String[employeeCount];
+        int[] anniversaryDayStarts = new int[employeeCount + 1];
+        int[] anniversaryDays = new int[employeeCount];
+        long recordPosition = 0;
+        for (int i = 0; i < employeeCount; i++) {
+            recordPosition += index.readVarlong();
+            if (recordPosition < header.getPosition() || recordPosition >= stringTablePosition
+                    || i > 0 && recordPosition <= recordPositions[i - 1]) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            recordPositions[i] = (int) recordPosition;
+            employeeIds[i] = index.readString();
+            names[i] = index.readString();
+            long recordChecksum = index.readVarlong();
+            if (recordChecksum > 0xFFFFFFFFL) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            recordChecksums[i] = (int) recordChecksum;
+
+            int dayCount = index.readVarint();
+            int start = anniversaryDayStarts[i];
+            if (dayCount > indexEnd - indexPosition) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            if (start + dayCount > anniversaryDays.length) {
+                anniversaryDays = Arrays.copyOf(anniversaryDays, Math.max(start + dayCount, start * 2));
+            }
+            for (int j = 0; j < dayCount; j++) {
+                int day = index.readVarint();
+                if (day < 1 || day > DAYS_IN_LEAP_YEAR) {
+                    throw new IOException(MESSAGE_MALFORMED);
+                }
+                anniversaryDays[start + j] = day;
+            }
+            anniversaryDayStarts[i + 1] = start + dayCount;
+        }
+        if (index.getPosition() != indexEnd - indexPosition) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+
+        return new MappedAddressBook(snapshot, strings, recordPositions, recordChecksums, (int) stringTablePosition,
+                employeeIds, names, anniversaryDayStarts,
+                Arrays.copyOf(anniversaryDays, anniversaryDayStarts[employeeCount]));
+    }
+
+    /**
+     * Decodes the employee whose record takes the bytes from {@code start} to {@code end} of a mapped
+     * {@code snapshot}, whose string table is {@code strings}, after checking the record against {@code checksum}.
+     *
+     * @throws IOException if the record does not match its checksum or is malformed.
+     * @throws IllegalValueException if the record holds data that violate the model's constraints.
+     */
+    static Employee readEmployee(ByteBuffer snapshot, int start, int end, int checksum, String[] strings)
+            throws IOException, IllegalValueException {
+        ByteBuffer record = snapshot.slice(start, end - start);
+        CRC32 crc = new CRC32();
+        crc.update(record.duplicate());
+        if ((checksum & 0xFFFFFFFFL) != crc.getValue()) {
+            throw new IOException(MESSAGE_RECORD_CHECKSUM_MISMATCH);
+        }
+        Decoder decoder = new Decoder(record);
+        decoder.setSharedStrings(strings);
+        Employee employee = EmployeeBinaryCodec.read(decoder, BinarySnapshotFormat::toPerson).toModelType();
+        if (decoder.getPosition() != end - start) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return employee;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+        }
+    }
+
+    /**
+     * Writes the parts of a snapshot through a buffer, keeping the checksum of what it has written, the checksum of
+     * the section it is writing and the table of the shared strings it has written references to.
+     */
+    private static class Encoder implements RecordOutput {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final CRC32 crc = new CRC32();
+        private final CRC32 sectionCrc = new CRC32();
+        /** Where the bytes of the section that are not in {@code sectionCrc} yet start in the buffer. */
+        private int sectionStart;
+        private final Map<String, Integer> stringTable = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private int count;
+        private long flushed;
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        long getPosition() {
+            return flushed + count;
+        }
+
+        /**
+         * Starts a section, whose checksum {@link #endSection()} returns.
+         */
+        void startSection() {
+            sectionCrc.reset();
+            sectionStart = count;
+        }
+
+        /**
+         * Returns the checksum of what has been written since the last call to {@link #startSection()}.
+         */
+        long endSection() {
+            sectionCrc.update(buffer, sectionStart, count - sectionStart);
+            sectionStart = count;
+            return sectionCrc.getValue();
+        }
+
+        /**
+         * Returns the shared strings written so far, in the order of their indices in the string table.
+         */
+        List<String> getSharedStrings() {
+            return strings;
+        }
+
+        @Override
+        public void writeVarint(long value) throws IOException {
+            ensureRoom(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[count++] = (byte) value;
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                buffer[count++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureRoom(Long.BYTES);
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                buffer[count++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length) {
+                flush();
+                crc.update(bytes);
+                sectionCrc.update(bytes);
+                out.write(bytes);
+                flushed += bytes.length;
+                return;
+            }
+            ensureRoom(bytes.length);
+            System.arraycopy(bytes, 0, buffer, count, bytes.length);
+            count += bytes.length;
+        }
+
+        @Override
+        public void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarint(bytes.length);
+            writeBytes(bytes);
+        }
+
+        @Override
+        public void writeNullableString(String value) throws IOException {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarint(bytes.length + 1L);
+            writeBytes(bytes);
+        }
+
+        @Override
+        public void writeSharedString(String value) throws IOException {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer index = stringTable.get(value);
+            if (index == null) {
+                index = strings.size();
+                stringTable.put(value, index);
+                strings.add(value);
+            }
+            writeVarint(index + 1L);
+        }
+
+        /**
+         * Writes the checksum of everything written so far and flushes the buffer.
+         */
+        void writeChecksum() throws IOException {
+            flush();
+            int checksum = (int) crc.getValue();
+            out.write(new byte[] {(byte) (checksum >>> 24), (byte) (checksum >>> 16),
+                (byte) (checksum >>> 8), (byte) checksum});
+        }
+
+        private void ensureRoom(int length) throws IOException {
+            if (count + length > buffer.length) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            crc.update(buffer, 0, count);
+            sectionCrc.update(buffer, sectionStart, count - sectionStart);
+            sectionStart = 0;
+            out.write(buffer, 0, count);
+            flushed += count;
+            count = 0;
+        }
+    }
+
+    /**
+     * Reads the parts of a snapshot from a range of a file through a buffer, keeping the checksum of what it has
+     * read if the range starts at the beginning of the snapshot, or from a part of a snapshot already in memory.
+     */
+    private static class Decoder implements RecordInput {
+        private final FileChannel channel;
+        private final long end;
+        private final ByteBuffer buffer;
+        private final CRC32 crc = new CRC32();
+        private long bufferPosition;
+        private String[] strings = new String[0];
+
+        Decoder(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.end = end;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+            this.bufferPosition = start;
+        }
+
+        /**
+         * Creates a decoder that reads {@code buffer} alone, from its position to its limit.
+         * Positions are counted from the start of {@code buffer}, and no checksum is kept.
+         */
+        Decoder(ByteBuffer buffer) {
+            this.channel = null;
+            this.end = buffer.limit();
+            this.buffer = buffer;
+            this.bufferPosition = buffer.limit();
+        }
+
+        long getPosition() {
+            return bufferPosition - buffer.remaining();
+        }
+
+        /**
+         * Sets the string table that references to shared strings are read from.
+         */
+        void setSharedStrings(String[] strings) {
+            this.strings = strings;
+        }
+
+        @Override
+        public int readVarint() throws IOException {
+            long value = readVarlong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            return (int) value;
+        }
+
+        @Override
+        public long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            if (length > end - getPosition()) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            byte[] bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                fill();
+                int chunk = Math.min(length - read, buffer.remaining());
+                buffer.get(bytes, read, chunk);
+                read += chunk;
+            }
+            return bytes;
+        }
+
+        @Override
+        public String readString() throws IOException {
+            int length = readVarint();
+            if (buffer.hasArray() && length <= buffer.remaining()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            return new String(readBytes(length), UTF_8);
+        }
+
+        @Override
+        public String readNullableString() throws IOException {
+            int lengthPlusOne = readVarint();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            return new String(readBytes(lengthPlusOne - 1), UTF_8);
+        }
+
+        @Override
+        public String readSharedString() throws IOException {
+            int indexPlusOne = readVarint();
+            if (indexPlusOne > strings.length) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            return indexPlusOne == 0 ? null : strings[indexPlusOne - 1];
+        }
+
+        /**
+         * Reads the rest of the range, which must start at the beginning of the snapshot, and checks the whole of
+         * it against the checksum that follows it.
+         *
+         * @throws DataLoadingException if the range does not match the checksum.
+         */
+        void verify() throws IOException, DataLoadingException {
+            buffer.position(buffer.limit());
+            while (bufferPosition < end) {
+                fill();
+                buffer.position(buffer.limit());
+            }
+            ByteBuffer checksum = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, checksum, end);
+            if ((checksum.getInt(0) & 0xFFFFFFFFL) != crc.getValue()) {
+                throw DataFileChecksum.checksumMismatch();
+            }
+        }
+
+        private byte readByte() throws IOException {
+            if (!buffer.hasRemaining()) {
+                fill();
+            }
+            return buffer.get();
+        }
+
+        /**
+         * Loads the next bytes of the range into the buffer, keeping those not read yet.
+         */
+        private void fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return;
+            }
+            if (bufferPosition >= end) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - bufferPosition));
+            readFully(channel, buffer, bufferPosition);
+            buffer.flip();
+            crc.update(buffer.array(), 0, buffer.limit());
+            bufferPosition += buffer.limit();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} with a cache of the address book in its data file, so that an unchanged
+ * data file is loaded without being parsed and validated again.
+ *
+ * The cache is kept next to the data file, with a {@value #FILE_SUFFIX} suffix. It holds the
+ * {@link DataFileFingerprint fingerprint} of the data file and its journal, followed by a binary snapshot of the
+ * address book they hold, whose employees are not validated again when it is read. A cache whose fingerprint
+ * does not match the files, or that cannot be read, is ignored, and the address book is loaded from the data file.
+ *
+ * The cache is written by {@link #saveCache()}, from the address book last read or saved through this storage.
+ */
+public class CachedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_SUFFIX = ".cache";
+
+    private static final Logger logger = LogsCenter.getLogger(CachedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    /** The address book that the data file holds, as last read or saved, or {@code null} if it is not known. */
+    private ReadOnlyAddressBook storedAddressBook;
+
+    public CachedAddressBookStorage(AddressBookStorage storage) {
+        this.storage = requireNonNull(storage);
+    }
+
+    /**
+     * Returns the path of the cache kept for the data file at {@code dataFilePath}.
+     */
+    public static Path getCachePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return storage.readAddressBook(filePath);
+        }
+
+        storedAddressBook = null;
+        Optional<ReadOnlyAddressBook> cached = readCache(filePath);
+        if (cached.isPresent()) {
+            logger.info("Loaded the unchanged data file " + filePath + " from its cache");
+            storedAddressBook = cached.get();
+            return cached;
+        }
+        Optional<ReadOnlyAddressBook> addressBook =
+                storage.readAddressBook(filePath).map(CachedAddressBookStorage::toStoredAddressBook);
+        storedAddressBook = addressBook.orElse(null);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // A failed save may have left the data file holding either address book
+        storedAddressBook = null;
+        storage.saveAddressBook(addressBook, filePath);
+        storedAddressBook = addressBook;
+    }
+
+    @Override
+    public void compact() throws IOException {
+        // The data file holds the same address book afterwards, so the stored address book stays valid
+        storage.compact();
+    }
+
+    /**
+     * Saves the address book last read or saved through this storage as the cache of the data file, unless the
+     * cache is current already. Nothing is saved if the last save failed, as the content of the data file is then
+     * not known.
+     */
+    public synchronized void saveCache() throws IOException {
+        Path dataFilePath = getAddressBookFilePath();
+        Optional<DataFileFingerprint> fingerprint = DataFileFingerprint.of(dataFilePath);
+        if (storedAddressBook == null || fingerprint.isEmpty()
+                || fingerprint.equals(readCachedFingerprint(getCachePath(dataFilePath)))) {
+            return;
+        }
+        byte[] fingerprintBytes = fingerprint.get().toBytes();
+        ReadOnlyAddressBook addressBook = storedAddressBook;
+        FileUtil.writeToFileAtomically(getCachePath(dataFilePath), out -> {
+            out.write(fingerprintBytes);
+            BinarySnapshotFormat.write(addressBook, out);
+        });
+        logger.fine("Saved the cache of data file " + dataFilePath);
+    }
+
+    /**
+     * Returns {@code addressBook} in a form that can be kept until the next save. A {@code MappedAddressBook} is
+     * copied out of its snapshot, as keeping the snapshot mapped may stop the next save from replacing it.
+     */
+    private static ReadOnlyAddressBook toStoredAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof MappedAddressBook ? new AddressBook(addressBook) : addressBook;
+    }
+
+    /**
+     * Returns the address book in the cache of the data file at {@code dataFilePath}, or an empty
+     * {@code Optional} if the cache does not match the data file or cannot be read.
+     */
+    private static Optional<ReadOnlyAddressBook> readCache(Path dataFilePath) {
+        Path cachePath = getCachePath(dataFilePath);
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(cachePath, StandardOpenOption.READ)) {
+            Optional<DataFileFingerprint> fingerprint = DataFileFingerprint.of(dataFilePath);
+            if (fingerprint.isEmpty() || !fingerprint.equals(readFingerprint(channel))) {
+                logger.info("Ignoring the cache " + cachePath + " as the data file has changed");
+                return Optional.empty();
+            }
+            return Optional.of(BinarySnapshotFormat.readValidated(channel, DataFileFingerprint.LENGTH));
+        } catch (IOException | DataLoadingException | RuntimeException e) {
+            // The data file can still be loaded, so no damage to the cache may stop it
+            logger.warning("Ignoring the cache " + cachePath + " as it could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<DataFileFingerprint> readCachedFingerprint(Path cachePath) throws IOException {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(cachePath, StandardOpenOption.READ)) {
+            return readFingerprint(channel);
+        }
+    }
+
+    private static Optional<DataFileFingerprint> readFingerprint(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(DataFileFingerprint.LENGTH);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                return Optional.empty();
+            }
+        }
+        return DataFileFingerprint.fromBytes(buffer.array());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+
+/**
+ * An output stream that keeps the CRC-32 checksum and the number of the bytes written through it.
+ * Closing it closes the underlying stream.
+ */
+class ChecksumOutputStream extends FilterOutputStream {
+
+    private final CRC32 crc = new CRC32();
+    @Getter
+    private long length;
+    private int lastByte = -1;
+
+    ChecksumOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        crc.update(b);
+        length++;
+        lastByte = b & 0xff;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        crc.update(b, off, len);
+        length += len;
+        if (len > 0) {
+            lastByte = b[off + len - 1] & 0xff;
+        }
+    }
+
+    long getChecksum() {
+        return crc.getValue();
+    }
+
+    boolean endsWithNewline() {
+        return lastByte == '\n';
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Adds a checksum line to the end of a data file and verifies it when the file is read back, so that a data file
+ * that was cut short or damaged on disk is reported instead of being read as different data.
+ *
+ * The line has the form {@code // crc32=<8 hex digits> length=<bytes>} and covers everything before it.
+ * Data files without a checksum line, such as those written by older versions or edited by hand with the line
+ * removed, are read without verification.
+ */
+public class DataFileChecksum {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH =
+            "Data file is damaged: its content does not match the checksum on its last line.";
+
+    private static final String TRAILER_FORMAT = "// crc32=%08x length=%d\n";
+    private static final Pattern TRAILER_PATTERN = Pattern.compile("// crc32=([0-9a-f]{8}) length=(\\d+)\\n?");
+
+    /**
+     * Returns {@code content} followed by a checksum line covering it.
+     */
+    public static byte[] withTrailer(byte[] content) {
+        boolean needsNewline = content.length > 0 && content[content.length - 1] != '\n';
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        if (needsNewline) {
+            crc.update('\n');
+        }
+        int bodyLength = content.length + (needsNewline ? 1 : 0);
+        byte[] trailer = String.format(TRAILER_FORMAT, crc.getValue(), bodyLength).getBytes(UTF_8);
+
+        byte[] result = Arrays.copyOf(content, bodyLength + trailer.length);
+        if (needsNewline) {
+            result[content.length] = '\n';
+        }
+        System.arraycopy(trailer, 0, result, bodyLength, trailer.length);
+        return result;
+    }
+
+    /**
+     * Returns a writer of the content written by {@code content} followed by a checksum line covering it.
+     */
+    public static ContentWriter withTrailer(ContentWriter content) {
+        return out -> {
+            ChecksumOutputStream body = new ChecksumOutputStream(out);
+            content.writeTo(body);
+            if (body.getLength() > 0 && !body.endsWithNewline()) {
+                body.write('\n');
+            }
+            out.write(String.format(TRAILER_FORMAT, body.getChecksum(), body.getLength()).getBytes(UTF_8));
+        };
+    }
+
+    /**
+     * Returns the content of a data file without its checksum line, after verifying the checksum.
+     * Returns {@code fileBytes} unchanged if it has no checksum line.
+     *
+     * @throws DataLoadingException if the content does not match the checksum.
+     */
+    public static byte[] verifyAndStrip(byte[] fileBytes) throws DataLoadingException {
+        int lineStart = getLastLineStart(fileBytes);
+        Matcher matcher = matchTrailer(fileBytes, lineStart);
+        if (!matcher.matches()) {
+            return fileBytes;
+        }
+        byte[] body = Arrays.copyOf(fileBytes, lineStart);
+        if (body.length != getExpectedLength(matcher) || checksumOf(body) != getExpectedChecksum(matcher)) {
+            throw checksumMismatch();
+        }
+        return body;
+    }
+
+    /**
+     * Returns the position in {@code bytes} where its last line starts, which is 0 if they hold a single line.
+     * A newline at the very end does not start a line.
+     */
+    static int getLastLineStart(byte[] bytes) {
+        int end = bytes.length;
+        if (end > 0 && bytes[end - 1] == '\n') {
+            end--;
+        }
+        for (int i = end; i > 0; i--) {
+            if (bytes[i - 1] == '\n') {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a matcher of a checksum line against the bytes from {@code lineStart} to the end of {@code bytes}.
+     */
+    static Matcher matchTrailer(byte[] bytes, int lineStart) {
+        return TRAILER_PATTERN.matcher(new String(bytes, lineStart, bytes.length - lineStart, UTF_8));
+    }
+
+    static long getExpectedChecksum(Matcher trailer) {
+        return Long.parseLong(trailer.group(1), 16);
+    }
+
+    static long getExpectedLength(Matcher trailer) {
+        return Long.parseLong(trailer.group(2));
+    }
+
+    static DataLoadingException checksumMismatch() {
+        return new DataLoadingException(new IllegalStateException(MESSAGE_CHECKSUM_MISMATCH));
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.DataFileFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the storage for a data file format and converts address books between the formats.
+ * Conversions are lossless: an address book converted to another format and back is the same, anniversaries
+ * included.
+ */
+public class DataFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConverter.class);
+
+    /**
+     * Returns the storage for the address book in {@code format}, given the path of the JSON data file.
+     * A binary snapshot is kept next to it, at {@link BinaryAddressBookStorage#getSnapshotPath}, and a sharded
+     * address book in a directory next to it, at {@link ShardedAddressBookStorage#getManifestPath}.
+     */
+    public static AddressBookStorage createStorage(Path jsonFilePath, DataFileFormat format) {
+        requireNonNull(jsonFilePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getSnapshotPath(jsonFilePath));
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestPath(jsonFilePath));
+        case JSON:
+        default:
+            return new JournaledJsonAddressBookStorage(jsonFilePath);
+        }
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no address book, in which case {@code target} is left as it is.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the address book saved in {@code lastFormat} to {@code format}, given the path of the JSON data
+     * file, as when the data file format has been changed since the address book was last saved.
+     * Data left behind in any other format are never converted, as they may be older than the address book.
+     *
+     * @return true if the address book was converted, false if the format did not change or there was no
+     *     address book in {@code lastFormat}.
+     */
+    public static boolean convertIfFormatChanged(Path jsonFilePath, DataFileFormat lastFormat,
+            DataFileFormat format) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(lastFormat);
+        requireNonNull(format);
+        if (lastFormat == format) {
+            return false;
+        }
+        return convert(createStorage(jsonFilePath, lastFormat), createStorage(jsonFilePath, format));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Identifies the content of a data file, and of the journal next to it if there is one, by their sizes,
+ * modification times and CRC-32C checksums, so that a cache of the address book they hold can tell whether it
+ * is still current. Computing a fingerprint reads both files, but does not parse them.
+ */
+class DataFileFingerprint {
+
+    /** The number of bytes in the binary form of a fingerprint. */
+    static final int LENGTH = 4 + 6 * Long.BYTES;
+
+    private static final byte[] MAGIC = {'H', 'R', 'F', 'P'};
+    private static final long ABSENT = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final byte[] bytes;
+
+    private DataFileFingerprint(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the fingerprint of the data file at {@code dataFilePath} and of its journal, or an empty
+     * {@code Optional} if there is no data file.
+     */
+    static Optional<DataFileFingerprint> of(Path dataFilePath) throws IOException {
+        if (!Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH);
+        buffer.put(MAGIC);
+        putFile(buffer, dataFilePath);
+        putFile(buffer, JournaledJsonAddressBookStorage.getJournalPath(dataFilePath));
+        return Optional.of(new DataFileFingerprint(buffer.array()));
+    }
+
+    /**
+     * Returns the fingerprint whose binary form is {@code bytes}, or an empty {@code Optional} if they are not
+     * the binary form of a fingerprint.
+     */
+    static Optional<DataFileFingerprint> fromBytes(byte[] bytes) {
+        if (bytes.length != LENGTH || !Arrays.equals(MAGIC, Arrays.copyOf(bytes, MAGIC.length))) {
+            return Optional.empty();
+        }
+        return Optional.of(new DataFileFingerprint(bytes.clone()));
+    }
+
+    /**
+     * Returns the binary form of this fingerprint, which is {@value #LENGTH} bytes long.
+     */
+    byte[] toBytes() {
+        return bytes.clone();
+    }
+
+    private static void putFile(ByteBuffer buffer, Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            buffer.putLong(ABSENT).putLong(ABSENT).putLong(ABSENT);
+            return;
+        }
+        buffer.putLong(Files.size(filePath));
+        buffer.putLong(Files.getLastModifiedTime(filePath).toMillis());
+        buffer.putLong(checksumOf(filePath));
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DataFileFingerprint)) {
+            return false;
+        }
+
+        DataFileFingerprint otherFingerprint = (DataFileFingerprint) other;
+        return Arrays.equals(bytes, otherFingerprint.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+}
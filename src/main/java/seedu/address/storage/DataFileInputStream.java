@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Reads the content of a data file from start to end, without its checksum line, computing the checksum on the
+ * way so that the file is read only once. See {@link DataFileChecksum} for the checksum line.
+ */
+class DataFileInputStream extends FilterInputStream {
+
+    /** Long enough to hold the checksum line and the newline before it. */
+    private static final int TAIL_LENGTH = 64;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final CRC32 crc = new CRC32();
+    private final long contentLength;
+    private final byte[] trailer;
+    /** The checksum line, or {@code null} if the file has none. */
+    private final Matcher trailerMatcher;
+    private long position;
+
+    /** The length of the whole file, including the checksum line. */
+    @Getter
+    private final long fileLength;
+    /** The CRC-32 checksum of the whole file, known once {@link #verify()} returns. */
+    @Getter
+    private long fileChecksum;
+
+    private DataFileInputStream(InputStream in, long fileLength, byte[] tail) {
+        super(in);
+        this.fileLength = fileLength;
+        long tailOffset = fileLength - tail.length;
+        int lineStart = DataFileChecksum.getLastLineStart(tail);
+        Matcher matcher = DataFileChecksum.matchTrailer(tail, lineStart);
+        if ((lineStart > 0 || tailOffset == 0) && matcher.matches()) {
+            contentLength = tailOffset + lineStart;
+            trailer = Arrays.copyOfRange(tail, lineStart, tail.length);
+            trailerMatcher = matcher;
+        } else {
+            contentLength = fileLength;
+            trailer = new byte[0];
+            trailerMatcher = null;
+        }
+    }
+
+    /**
+     * Opens the data file at {@code file} for reading its content.
+     */
+    static DataFileInputStream open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer tail = ByteBuffer.allocate((int) Math.min(size, TAIL_LENGTH));
+            long tailOffset = size - tail.capacity();
+            while (tail.hasRemaining()) {
+                if (channel.read(tail, tailOffset + tail.position()) < 0) {
+                    throw new IOException("Data file " + file + " was shortened while being read");
+                }
+            }
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_SIZE);
+            return new DataFileInputStream(in, size, tail.array());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= contentLength) {
+            return -1;
+        }
+        int b = in.read();
+        if (b >= 0) {
+            crc.update(b);
+            position++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= contentLength) {
+            return -1;
+        }
+        int count = in.read(b, off, (int) Math.min(len, contentLength - position));
+        if (count > 0) {
+            crc.update(b, off, count);
+            position += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes still count towards the checksum
+        byte[] buffer = new byte[(int) Math.min(n, READ_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(in.available(), contentLength - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        // Rereading would count bytes towards the checksum twice
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads the rest of the content and checks it against the checksum line, if the file has one.
+     *
+     * @throws DataLoadingException if the content does not match the checksum.
+     */
+    void verify() throws IOException, DataLoadingException {
+        skip(Long.MAX_VALUE);
+        if (position < contentLength) {
+            throw DataFileChecksum.checksumMismatch();
+        }
+        if (trailerMatcher != null && (contentLength != DataFileChecksum.getExpectedLength(trailerMatcher)
+                || crc.getValue() != DataFileChecksum.getExpectedChecksum(trailerMatcher))) {
+            throw DataFileChecksum.checksumMismatch();
+        }
+        crc.update(trailer);
+        fileChecksum = crc.getValue();
+    }
+}
@@ -0,0 +1,485 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving compares the address book with the one saved last and appends the employees that were added, changed or
+ * removed to the journal, one compact JSON record per line, so that a single edit writes a few hundred bytes.
+ * Once the journal grows past a threshold, or when a change cannot be described employee by employee, a new
+ * snapshot is written and the journal is started afresh. Reading loads the snapshot and replays the journal.
+ *
+ * The journal starts with the length and checksum of the snapshot it applies to, so a journal left behind by an
+ * interrupted compaction is not replayed onto the newer snapshot. A journal that does not apply to the snapshot,
+ * as after the data file was edited by hand, is moved aside rather than deleted. Snapshots and journal headers
+ * replace the old files atomically; appended records are synced to the disk at most once per
+ * {@link #JOURNAL_SYNC_INTERVAL}, and at the latest that long after they were appended. {@link #compact()} folds
+ * the journal into the snapshot, so that the data file alone is up to date once the app exits.
+ */
+public class JournaledJsonAddressBookStorage extends JsonAddressBookStorage {
+
+    /** The journal is folded into a new snapshot once it is larger than this, or than half of the snapshot. */
+    public static final long MIN_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+
+    /** Appends to the journal are synced to the disk at most this often, and at the latest this long after. */
+    public static final Duration JOURNAL_SYNC_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledJsonAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String STALE_JOURNAL_SUFFIX = ".stale";
+    /** Returned by {@link #replayJournal} when no further records may be appended to the journal. */
+    private static final int JOURNAL_NOT_APPENDABLE = -1;
+    /** The gap left between the order keys of neighbouring saved employees when the keys are assigned afresh. */
+    private static final long ORDER_KEY_SPACING = 1L << 20;
+
+    private final ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The employees as last read or saved, by employee ID, or {@code null} if the files are not in a known state. */
+    private Map<String, SavedEmployee> savedEmployees;
+    /** The number of saves compared with {@code savedEmployees}, used to mark the saved employees each one kept. */
+    private long comparisonCount;
+    private long snapshotLength;
+    private long journalLength;
+    /** Whether the journal holds records that are not in the snapshot yet. */
+    private boolean hasJournalRecords;
+    private long lastJournalSync = System.nanoTime() - JOURNAL_SYNC_INTERVAL.toNanos();
+    /** Whether appended records wait for a sync that is scheduled already. */
+    private boolean isSyncScheduled;
+
+    public JournaledJsonAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            savedEmployees = null;
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataFileInputStream snapshot = DataFileInputStream.open(filePath)) {
+            AddressBook addressBook = readDataFile(snapshot);
+            int replayedCount = replayJournal(getJournalPath(filePath), addressBook,
+                    snapshot.getFileLength(), snapshot.getFileChecksum());
+            if (isOwnFile && replayedCount != JOURNAL_NOT_APPENDABLE) {
+                snapshotLength = snapshot.getFileLength();
+                journalLength = Files.size(getJournalPath(filePath));
+                hasJournalRecords = replayedCount > 0;
+                savedEmployees = indexEmployees(addressBook.getEmployeeList());
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Employee> employees = addressBook.getEmployeeList();
+        // A journal is only kept for the snapshot this storage wrote or read, not one deleted or replaced since
+        Optional<JournalChanges> changes = savedEmployees == null || !isSnapshotUnchanged(filePath)
+                ? Optional.empty()
+                : describeChanges(employees);
+        if (changes.isPresent() && journalLength <= Math.max(MIN_COMPACTION_THRESHOLD_BYTES, snapshotLength / 2)) {
+            appendToJournal(filePath, changes.get().records);
+            changes.get().applyTo(savedEmployees);
+        } else {
+            writeSnapshot(addressBook, filePath);
+            savedEmployees = indexEmployees(employees);
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot of the address book saved last, so that the data file alone holds it.
+     * Does nothing if the journal holds no records, or if the files are not in a known state.
+     */
+    @Override
+    public synchronized void compact() throws IOException {
+        if (savedEmployees == null || !hasJournalRecords) {
+            return;
+        }
+        List<SavedEmployee> saved = new ArrayList<>(savedEmployees.values());
+        saved.sort(Comparator.comparingLong(savedEmployee -> savedEmployee.orderKey));
+        List<Employee> employees = new ArrayList<>(saved.size());
+        saved.forEach(savedEmployee -> employees.add(savedEmployee.employee));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEmployees(employees);
+        writeSnapshot(addressBook, getAddressBookFilePath());
+        savedEmployees = indexEmployees(addressBook.getEmployeeList());
+    }
+
+    private boolean isSnapshotUnchanged(Path filePath) throws IOException {
+        return Files.exists(filePath) && Files.size(filePath) == snapshotLength;
+    }
+
+    /**
+     * Returns the journal records that turn the address book saved last into one with {@code employees}, together
+     * with the saved employees they change, or an empty {@code Optional} if the change is better saved as a new
+     * snapshot. The employees are walked once in list order, and only the saved employees that changed are
+     * replaced afterwards.
+     *
+     * Records only describe the result of a change, not how it came about, so the employees kept from the
+     * address book saved last must still be in the same order.
+     */
+    private Optional<JournalChanges> describeChanges(List<Employee> employees) {
+        long comparison = ++comparisonCount;
+        JournalChanges changes = new JournalChanges();
+        List<JsonAdaptedJournalRecord> puts = new ArrayList<>();
+        // Beyond this, a snapshot is smaller than the records
+        int maxRecords = employees.size() / 4 + 16;
+
+        // The employees added since the last kept one, which take order keys between it and the next kept one
+        List<Employee> added = new ArrayList<>();
+        long previousKey = 0;
+        int keptCount = 0;
+        int index = 0;
+        for (Employee employee : employees) {
+            SavedEmployee saved = savedEmployees.get(employee.getEmployeeId().value);
+            if (saved == null) {
+                added.add(employee);
+            } else {
+                if (saved.orderKey <= previousKey || !changes.addSaved(added, previousKey, saved.orderKey)) {
+                    return Optional.empty();
+                }
+                added.clear();
+                previousKey = saved.orderKey;
+                saved.lastComparison = comparison;
+                keptCount++;
+                if (!saved.isSavedFormOf(employee)) {
+                    changes.saved.add(new SavedEmployee(employee, saved.orderKey));
+                }
+            }
+            if (saved == null || !saved.isSavedFormOf(employee)) {
+                puts.add(JsonAdaptedJournalRecord.put(index, employee));
+                if (puts.size() > maxRecords) {
+                    return Optional.empty();
+                }
+            }
+            index++;
+        }
+        if (previousKey > Long.MAX_VALUE - ORDER_KEY_SPACING * (added.size() + 1L)
+                || !changes.addSaved(added, previousKey, previousKey + ORDER_KEY_SPACING * (added.size() + 1L))) {
+            return Optional.empty();
+        }
+
+        if (keptCount < savedEmployees.size()) {
+            for (SavedEmployee saved : savedEmployees.values()) {
+                if (saved.lastComparison != comparison) {
+                    String employeeId = saved.employee.getEmployeeId().value;
+                    changes.records.add(JsonAdaptedJournalRecord.remove(employeeId));
+                    changes.removedEmployeeIds.add(employeeId);
+                }
+            }
+            if (changes.records.size() + puts.size() > maxRecords) {
+                return Optional.empty();
+            }
+        }
+
+        // Removals go first, so that each insertion lands at its final position
+        changes.records.addAll(puts);
+        return Optional.of(changes);
+    }
+
+    private void appendToJournal(Path filePath, List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(objectMapper.writeValueAsString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(UTF_8);
+        try (FileChannel channel = FileChannel.open(getJournalPath(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            hasJournalRecords = true;
+            // An incomplete last record is ignored on reading, so syncing every append only narrows the window
+            // of edits a crash can lose, at the cost of a disk flush per edit
+            long sinceLastSync = System.nanoTime() - lastJournalSync;
+            if (sinceLastSync >= JOURNAL_SYNC_INTERVAL.toNanos()) {
+                channel.force(false);
+                lastJournalSync = System.nanoTime();
+            } else if (!isSyncScheduled) {
+                isSyncScheduled = true;
+                syncExecutor.schedule(this::syncJournal, JOURNAL_SYNC_INTERVAL.toNanos() - sinceLastSync,
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+        journalLength += bytes.length;
+    }
+
+    /**
+     * Syncs the records appended to the journal since the last sync to the disk.
+     */
+    private synchronized void syncJournal() {
+        isSyncScheduled = false;
+        try (FileChannel channel = FileChannel.open(getJournalPath(getAddressBookFilePath()),
+                StandardOpenOption.WRITE)) {
+            channel.force(false);
+            lastJournalSync = System.nanoTime();
+        } catch (NoSuchFileException e) {
+            // Nothing to sync, as the journal was moved aside since
+        } catch (IOException e) {
+            logger.warning("Failed to sync the journal to the disk: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts a journal that applies to it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // Until both files are written, nothing can be appended to the journal safely
+        savedEmployees = null;
+        ContentWriter dataFile = toDataFile(addressBook);
+        AtomicReference<ChecksumOutputStream> snapshot = new AtomicReference<>();
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            snapshot.set(new ChecksumOutputStream(out));
+            dataFile.writeTo(snapshot.get());
+        });
+
+        byte[] header = (objectMapper.writeValueAsString(JsonAdaptedJournalRecord.base(
+                snapshot.get().getLength(), snapshot.get().getChecksum())) + '\n').getBytes(UTF_8);
+        FileUtil.writeToFileAtomically(getJournalPath(filePath), header);
+        snapshotLength = snapshot.get().getLength();
+        journalLength = header.length;
+        hasJournalRecords = false;
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code addressBook}, which was read from a
+     * snapshot of {@code snapshotFileLength} bytes with the CRC-32 {@code snapshotFileChecksum}.
+     * A journal that does not apply to the snapshot is not replayed. If it holds any records, it is moved aside
+     * so that they can still be recovered by hand.
+     *
+     * The journal is split into records on its line breaks before any record is decoded, so that a record cut
+     * short by a crash, even in the middle of a character, only loses that record.
+     *
+     * @return the number of records replayed, or {@link #JOURNAL_NOT_APPENDABLE} if there is no journal that
+     *     applies to the snapshot or it ends in a record that was not written completely, which is then ignored.
+     * @throws IllegalValueException if a complete record of the journal is malformed.
+     */
+    private int replayJournal(Path journalPath, AddressBook addressBook, long snapshotFileLength,
+            long snapshotFileChecksum) throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return JOURNAL_NOT_APPENDABLE;
+        }
+        byte[] journal = Files.readAllBytes(journalPath);
+        int lineEnd = indexOfLineEnd(journal, 0);
+        if (lineEnd < 0) {
+            return JOURNAL_NOT_APPENDABLE;
+        }
+
+        JsonAdaptedJournalRecord base = readRecord(journal, 0, lineEnd);
+        if (base == null || !JsonAdaptedJournalRecord.BASE.equals(base.getOp())
+                || base.getSnapshotLength() == null || base.getSnapshotLength() != snapshotFileLength
+                || base.getSnapshotChecksum() == null || base.getSnapshotChecksum() != snapshotFileChecksum) {
+            if (lineEnd + 1 < journal.length) {
+                Path stalePath = moveAside(journalPath);
+                logger.warning("The journal " + journalPath + " does not apply to the data file, which may have been"
+                        + " edited by hand, so the changes recorded in it were not loaded. It was moved to "
+                        + stalePath);
+            }
+            return JOURNAL_NOT_APPENDABLE;
+        }
+        int replayedCount = 0;
+        for (int lineStart = lineEnd + 1; lineStart < journal.length; lineStart = lineEnd + 1) {
+            lineEnd = indexOfLineEnd(journal, lineStart);
+            if (lineEnd < 0) {
+                logger.warning("Ignoring an incomplete record at the end of journal " + journalPath);
+                return JOURNAL_NOT_APPENDABLE;
+            }
+            JsonAdaptedJournalRecord record = readRecord(journal, lineStart, lineEnd);
+            if (record == null) {
+                throw new IllegalValueException("Journal record " + (replayedCount + 1) + " is malformed");
+            }
+            apply(record, addressBook);
+            replayedCount++;
+        }
+        return replayedCount;
+    }
+
+    /**
+     * Returns the index of the first line break in {@code bytes} at or after {@code from}, or -1 if there is none.
+     */
+    private static int indexOfLineEnd(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Renames the journal at {@code journalPath} to a name that no other file has, and returns its new path.
+     */
+    private static Path moveAside(Path journalPath) throws IOException {
+        Path stalePath = journalPath.resolveSibling(journalPath.getFileName() + STALE_JOURNAL_SUFFIX);
+        for (int i = 2; Files.exists(stalePath); i++) {
+            stalePath = journalPath.resolveSibling(journalPath.getFileName() + STALE_JOURNAL_SUFFIX + i);
+        }
+        Files.move(journalPath, stalePath);
+        return stalePath;
+    }
+
+    private JsonAdaptedJournalRecord readRecord(byte[] journal, int lineStart, int lineEnd) {
+        try {
+            return objectMapper.readValue(journal, lineStart, lineEnd - lineStart, JsonAdaptedJournalRecord.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void apply(JsonAdaptedJournalRecord record, AddressBook addressBook)
+            throws IllegalValueException {
+        if (JsonAdaptedJournalRecord.PUT.equals(record.getOp()) && record.getPerson() != null
+                && record.getIndex() != null) {
+            Employee employee = record.getPerson().toModelType();
+            Optional<Employee> existing = find(addressBook, employee.getEmployeeId().value);
+            if (existing.isPresent()) {
+                addressBook.setPerson(existing.get(), employee);
+            } else {
+                int index = Math.max(0, Math.min(record.getIndex(), addressBook.getEmployeeList().size()));
+                addressBook.addPerson(index, employee);
+            }
+        } else if (JsonAdaptedJournalRecord.REMOVE.equals(record.getOp()) && record.getEmployeeId() != null) {
+            find(addressBook, record.getEmployeeId()).ifPresent(addressBook::removePerson);
+        } else {
+            throw new IllegalValueException("Journal record is malformed: " + record.getOp());
+        }
+    }
+
+    private static Optional<Employee> find(AddressBook addressBook, String employeeId) {
+        return addressBook.getEmployee(EmployeeId.fromString(employeeId));
+    }
+
+    private static Map<String, SavedEmployee> indexEmployees(List<Employee> employees) {
+        Map<String, SavedEmployee> index = new HashMap<>();
+        long orderKey = 0;
+        for (Employee employee : employees) {
+            orderKey += ORDER_KEY_SPACING;
+            index.put(employee.getEmployeeId().value, new SavedEmployee(employee, orderKey));
+        }
+        return index;
+    }
+
+    /**
+     * The journal records that describe a save, with the saved employees they add, replace or remove.
+     */
+    private static class JournalChanges {
+        private final List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        private final List<SavedEmployee> saved = new ArrayList<>();
+        private final List<String> removedEmployeeIds = new ArrayList<>();
+
+        /**
+         * Adds {@code added} as saved employees with order keys spread evenly between {@code lowKey} and
+         * {@code highKey}, both exclusive. Returns false if there are not enough keys between them.
+         */
+        boolean addSaved(List<Employee> added, long lowKey, long highKey) {
+            if (added.isEmpty()) {
+                return true;
+            }
+            long step = (highKey - lowKey) / (added.size() + 1);
+            if (step == 0) {
+                return false;
+            }
+            for (int i = 0; i < added.size(); i++) {
+                saved.add(new SavedEmployee(added.get(i), lowKey + step * (i + 1)));
+            }
+            return true;
+        }
+
+        void applyTo(Map<String, SavedEmployee> savedEmployees) {
+            removedEmployeeIds.forEach(savedEmployees::remove);
+            saved.forEach(savedEmployee -> savedEmployees.put(savedEmployee.employee.getEmployeeId().value,
+                    savedEmployee));
+        }
+    }
+
+    /**
+     * An employee as it was when last saved, with an order key that increases along the address book.
+     */
+    private static class SavedEmployee {
+        private final Employee employee;
+        private final long orderKey;
+        /** The last comparison in which this employee was still in the address book. */
+        private long lastComparison;
+
+        SavedEmployee(Employee employee, long orderKey) {
+            this.employee = employee;
+            this.orderKey = orderKey;
+        }
+
+        /** Employees are not changed in place, so an employee is saved in its current form if it is the same. */
+        boolean isSavedFormOf(Employee current) {
+            return employee == current;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import seedu.address.model.person.Employee;
+
+/**
+ * Jackson-friendly version of one line of an address book journal.
+ *
+ * The first line of a journal is a {@code base} record naming the snapshot the journal applies to. Every later
+ * line is either a {@code put} record, which stores an employee at a position, or a {@code remove} record.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String BASE = "base";
+    static final String PUT = "put";
+    static final String REMOVE = "remove";
+
+    private final String op;
+    private final Long snapshotLength;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final String employeeId;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op,
+                                    @JsonProperty("snapshotLength") Long snapshotLength,
+                                    @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("employeeId") String employeeId,
+                                    @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.snapshotLength = snapshotLength;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.employeeId = employeeId;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record naming the snapshot of {@code snapshotLength} bytes with the CRC-32 {@code snapshotChecksum}.
+     */
+    static JsonAdaptedJournalRecord base(long snapshotLength, long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(BASE, snapshotLength, snapshotChecksum, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the employee with the same ID as {@code employee} in place, or inserts
+     * {@code employee} at {@code index} if there is none.
+     */
+    static JsonAdaptedJournalRecord put(int index, Employee employee) {
+        return new JsonAdaptedJournalRecord(PUT, null, null, index, null, new JsonAdaptedPerson(employee));
+    }
+
+    /**
+     * Returns a record that removes the employee with the ID {@code employeeId}, if there is one.
+     */
+    static JsonAdaptedJournalRecord remove(String employeeId) {
+        return new JsonAdaptedJournalRecord(REMOVE, null, null, null, employeeId, null);
+    }
+}
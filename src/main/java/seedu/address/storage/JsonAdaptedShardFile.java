@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * Jackson-friendly version of the entry for one shard file in the manifest of a sharded address book.
+ */
+@Getter
+class JsonAdaptedShardFile {
+
+    private final String file;
+    private final Long length;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardFile} for the shard file named {@code file}, which is {@code length}
+     * bytes long and has the CRC-32 {@code checksum}.
+     */
+    @JsonCreator
+    public JsonAdaptedShardFile(@JsonProperty("file") String file, @JsonProperty("length") Long length,
+                                @JsonProperty("checksum") Long checksum) {
+        this.file = file;
+        this.length = length;
+        this.checksum = checksum;
+    }
+}
@@ -3,22 +3,47 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The name of the list of employees in {@link JsonSerializableAddressBook}. */
+    private static final String PERSONS_FIELD = "persons";
+    /** Flushing after every employee would write to the disk once per employee. */
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.getObjectMapper().writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final ObjectReader PERSON_READER = JsonUtil.getObjectMapper().readerFor(JsonAdaptedPerson.class);
+    private static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not hold a list of persons.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -45,17 +70,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (DataFileInputStream in = DataFileInputStream.open(filePath)) {
+            return Optional.of(readDataFile(in));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         }
     }
 
@@ -73,8 +99,105 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, toDataFile(addressBook));
+    }
+
+    @Override
+    public void compact() throws IOException {
+        // Every save writes the whole data file
+    }
+
+    /**
+     * Returns a writer of the content of a data file holding {@code addressBook}, ending in a checksum line.
+     */
+    static ContentWriter toDataFile(ReadOnlyAddressBook addressBook) {
+        return DataFileChecksum.withTrailer(out -> writeJson(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} exactly as a pretty-printed {@link JsonSerializableAddressBook},
+     * adapting one employee at a time instead of the whole address book at once.
+     */
+    static void writeJson(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonGenerator generator = JsonUtil.getObjectMapper().getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        try (generator) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Employee employee : addressBook.getEmployeeList()) {
+                PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(employee));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the address book in the data file {@code in} and verifies the file's checksum.
+     * A damaged file is reported as such, rather than by whichever error its damage happens to cause first.
+     *
+     * @throws IllegalValueException if the data file holds data that violate the model's constraints.
+     * @throws DataLoadingException if the data file does not match its checksum.
+     */
+    static AddressBook readDataFile(DataFileInputStream in)
+            throws IOException, IllegalValueException, DataLoadingException {
+        AddressBook addressBook;
+        try {
+            addressBook = readJson(in);
+        } catch (IOException | IllegalValueException e) {
+            in.verify();
+            throw e;
+        }
+        in.verify();
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book written as a {@link JsonSerializableAddressBook} from {@code in}, converting the
+     * employees on the common fork-join pool as they are read instead of binding the whole file first.
+     *
+     * @throws IllegalValueException if the data violate the model's constraints, as for
+     *     {@link JsonSerializableAddressBook#toModelType()}.
+     */
+    static AddressBook readJson(InputStream in) throws IOException, IllegalValueException {
+        return readJson(in, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Similar to {@link #readJson(InputStream)}, converting the employees on {@code pool}.
+     */
+    static AddressBook readJson(InputStream in, ForkJoinPool pool) throws IOException, IllegalValueException {
+        List<Employee> employees;
+        JsonParser parser = JsonUtil.getObjectMapper().getFactory().createParser(in);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try (parser; ParallelEmployeeConverter converter = new ParallelEmployeeConverter(pool)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(parser.getCurrentName()) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson person = PERSON_READER.readValue(parser);
+                    if (person == null) {
+                        throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+                    }
+                    converter.add(person);
+                }
+            }
+            employees = converter.finish();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setEmployees(employees);
+        return addressBook;
     }
 
 }
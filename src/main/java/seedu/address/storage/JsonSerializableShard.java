@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * Jackson-friendly version of one shard of a sharded address book.
+ *
+ * Each employee comes with an order key, which gives its position among the employees of all shards. Order keys
+ * increase along {@code persons}.
+ */
+@Getter
+class JsonSerializableShard {
+
+    private final List<Long> orderKeys = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given order keys and persons.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("orderKeys") List<Long> orderKeys,
+                                 @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (orderKeys != null) {
+            this.orderKeys.addAll(orderKeys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book, which lists its shard files in shard order.
+ *
+ * Every save that rewrites shards writes them under a new generation number, so the files the manifest lists
+ * are never replaced in place.
+ */
+@Getter
+class JsonSerializableShardManifest {
+
+    private final long generation;
+    private final List<JsonAdaptedShardFile> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given generation and shard files.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+                                         @JsonProperty("shards") List<JsonAdaptedShardFile> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+}
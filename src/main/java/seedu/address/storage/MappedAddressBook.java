@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * An address book read from a binary snapshot mapped into memory, which decodes each employee the first time it
+ * is needed.
+ *
+ * Only the record index of the snapshot is held on the heap: where each employee's record starts, the employee ID
+ * and name, and the days of the year of the dated anniversaries, from which the next upcoming date is found.
+ * Opening the address book and the memory it takes therefore grow with the index rather than with the snapshot,
+ * and the parts of the snapshot that are never read are never loaded from the disk.
+ *
+ * Only the string table and the record index are checked against their checksum when the snapshot is opened.
+ * Each record is checked against its own checksum when it is decoded, so a damaged record is reported then.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    static final String MESSAGE_UNREADABLE_EMPLOYEE = "Employee %s could not be read from the binary snapshot: %s";
+
+    private final ByteBuffer snapshot;
+    private final String[] strings;
+    private final int[] recordPositions;
+    private final int[] recordChecksums;
+    private final int recordsEnd;
+    private final String[] employeeIds;
+    private final String[] names;
+    /** The anniversary days of the employee at index i are those from index i to index i + 1 of this array. */
+    private final int[] anniversaryDayStarts;
+    private final int[] anniversaryDays;
+
+    /** The employees decoded so far, guarded by {@code this}. */
+    private final Employee[] employees;
+    private int decodedCount;
+    private final ObservableList<Employee> employeeList =
+            FXCollections.unmodifiableObservableList(new EmployeeListView());
+
+    /**
+     * Creates an address book over the records of {@code snapshot}, as listed in its record index.
+     * See {@link BinarySnapshotFormat#map}.
+     */
+    MappedAddressBook(ByteBuffer snapshot, String[] strings, int[] recordPositions, int[] recordChecksums,
+            int recordsEnd, String[] employeeIds, String[] names, int[] anniversaryDayStarts, int[] anniversaryDays) {
+        this.snapshot = snapshot;
+        this.strings = strings;
+        this.recordPositions = recordPositions;
+        this.recordChecksums = recordChecksums;
+        this.recordsEnd = recordsEnd;
+        this.employeeIds = employeeIds;
+        this.names = names;
+        this.anniversaryDayStarts = anniversaryDayStarts;
+        this.anniversaryDays = anniversaryDays;
+        this.employees = new Employee[recordPositions.length];
+    }
+
+    /**
+     * Returns the number of employees in the address book.
+     */
+    public int size() {
+        return employees.length;
+    }
+
+    /**
+     * Returns the employee ID of the employee at {@code index}, without decoding the employee.
+     */
+    public String getEmployeeId(int index) {
+        return employeeIds[index];
+    }
+
+    /**
+     * Returns the name of the employee at {@code index}, without decoding the employee.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the position of the employee with {@code employeeId}, or -1 if there is none.
+     */
+    public int indexOfEmployeeId(String employeeId) {
+        requireNonNull(employeeId);
+        for (int i = 0; i < employeeIds.length; i++) {
+            if (employeeIds[i].equals(employeeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the next upcoming date of the employee at {@code index} counting from {@code today}, as
+     * {@link Employee#getNextUpcomingDate(LocalDate)} does, without decoding the employee.
+     *
+     * @return The next upcoming date, or {@code null} if the employee has no dated anniversary.
+     */
+    public LocalDate getNextUpcomingDate(int index, LocalDate today) {
+        requireNonNull(today);
+        LocalDate earliest = null;
+        for (int i = anniversaryDayStarts[index]; i < anniversaryDayStarts[index + 1]; i++) {
+            LocalDate date = LocalDate.ofYearDay(BinarySnapshotFormat.REFERENCE_LEAP_YEAR, anniversaryDays[i]);
+            LocalDate nextDate = date.withYear(today.getYear());
+            if (nextDate.isBefore(today)) {
+                nextDate = nextDate.plusYears(1);
+            }
+            if (earliest == null || nextDate.isBefore(earliest)) {
+                earliest = nextDate;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Returns the employee at {@code index}, decoding it from the snapshot if it has not been decoded before.
+     * The same employee object is returned every time.
+     *
+     * @throws UncheckedIOException if the record of the employee does not match its checksum or is malformed.
+     */
+    public synchronized Employee getEmployee(int index) {
+        Objects.checkIndex(index, employees.length);
+        if (employees[index] == null) {
+            int end = index + 1 < recordPositions.length ? recordPositions[index + 1] : recordsEnd;
+            try {
+                employees[index] = BinarySnapshotFormat.readEmployee(snapshot, recordPositions[index], end,
+                        recordChecksums[index], strings);
+            } catch (IOException | IllegalValueException e) {
+                throw new UncheckedIOException(new IOException(
+                        String.format(MESSAGE_UNREADABLE_EMPLOYEE, employeeIds[index], e.getMessage()), e));
+            }
+            decodedCount++;
+        }
+        return employees[index];
+    }
+
+    /**
+     * Returns the number of employees decoded so far.
+     */
+    public synchronized int getDecodedCount() {
+        return decodedCount;
+    }
+
+    /**
+     * Returns an unmodifiable view of the employees, which decodes each employee when it is first read.
+     *
+     * @throws UncheckedIOException from the methods of the list if the record of an employee read is damaged.
+     */
+    @Override
+    public ObservableList<Employee> getEmployeeList() {
+        return employeeList;
+    }
+
+    /**
+     * A view of the employees in the snapshot, which never changes.
+     */
+    private class EmployeeListView extends ObservableListBase<Employee> {
+        @Override
+        public Employee get(int index) {
+            return getEmployee(index);
+        }
+
+        @Override
+        public int size() {
+            return employees.length;
+        }
+    }
+}
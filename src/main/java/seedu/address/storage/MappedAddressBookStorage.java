@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, which reads the snapshot as a
+ * {@link MappedAddressBook} that decodes employees only when they are needed.
+ *
+ * A snapshot stays mapped until its address book is no longer used. Saving over it is safe on systems that let a
+ * mapped file be replaced, but may fail on others, such as Windows, while it is mapped, so the address book read
+ * must not be kept once it has been copied into the model.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    public MappedAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinarySnapshotFormat.map(filePath));
+        } catch (IOException e) {
+            logger.warning("Error mapping binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Employee;
+
+/**
+ * Converts employees read from a data file into the model's {@code Employee}s on a fork-join pool, a chunk at a
+ * time, while the rest of the file is still being read.
+ *
+ * The employees come out in the order they were added, and the error reported is the one for the first employee
+ * that is invalid or a duplicate, exactly as if they had been converted one at a time.
+ */
+class ParallelEmployeeConverter implements AutoCloseable {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    /** Bounds the adapted employees held in memory while the conversion falls behind the reading. */
+    private final int maxChunksInFlight;
+    private final Deque<ForkJoinTask<ConvertedChunk>> inFlight = new ArrayDeque<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    private final List<Employee> employees = new ArrayList<>();
+    private final Set<String> employeeIds = new HashSet<>();
+
+    ParallelEmployeeConverter(ForkJoinPool pool) {
+        this.pool = pool;
+        this.maxChunksInFlight = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Queues {@code person} for conversion after the employees added before it.
+     *
+     * @throws IllegalValueException if an employee added earlier turned out to be invalid or a duplicate.
+     */
+    void add(JsonAdaptedPerson person) throws IllegalValueException {
+        chunk.add(person);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Returns all the employees added, converted, in the order they were added.
+     *
+     * @throws IllegalValueException if an employee is invalid or a duplicate.
+     */
+    List<Employee> finish() throws IllegalValueException {
+        submitChunk();
+        while (!inFlight.isEmpty()) {
+            mergeOldestChunk();
+        }
+        return employees;
+    }
+
+    /**
+     * Cancels the conversions still in flight, which is needed only if {@link #finish()} has not returned.
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(task -> task.cancel(false));
+        inFlight.clear();
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<JsonAdaptedPerson> toConvert = chunk;
+        inFlight.addLast(pool.submit(() -> convert(toConvert)));
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        if (inFlight.size() > maxChunksInFlight) {
+            mergeOldestChunk();
+        }
+    }
+
+    private void mergeOldestChunk() throws IllegalValueException {
+        ConvertedChunk converted = inFlight.removeFirst().join();
+        // Duplicates are only known in order, and one before the invalid employee is the first error
+        for (Employee employee : converted.employees) {
+            if (!employeeIds.add(employee.getEmployeeId().value)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            employees.add(employee);
+        }
+        if (converted.error != null) {
+            throw converted.error;
+        }
+    }
+
+    private static ConvertedChunk convert(List<JsonAdaptedPerson> persons) {
+        List<Employee> converted = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            try {
+                converted.add(person.toModelType());
+            } catch (IllegalValueException ive) {
+                return new ConvertedChunk(converted, ive);
+            }
+        }
+        return new ConvertedChunk(converted, null);
+    }
+
+    /**
+     * The employees of a chunk converted before the first invalid one, and the error for that one, if any.
+     */
+    private static class ConvertedChunk {
+        private final List<Employee> employees;
+        private final IllegalValueException error;
+
+        ConvertedChunk(List<Employee> employees, IllegalValueException error) {
+            this.employees = employees;
+            this.error = error;
+        }
+    }
+}
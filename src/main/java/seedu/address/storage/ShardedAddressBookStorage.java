@@ -0,0 +1,625 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * A class to access AddressBook data stored as a number of JSON shard files on the hard disk, listed by a manifest.
+ *
+ * Each employee is kept in the shard picked by the hash of its employee ID, together with an order key that gives
+ * its position in the address book. Saving compares the address book with the one saved last and rewrites only the
+ * shards holding employees that were added, changed, moved or removed, so a single edit writes about one shard's
+ * worth of data. Reading loads the shards in parallel and merges them by order key.
+ *
+ * Rewritten shards go to new files, which the manifest is then replaced atomically to list, and the files they
+ * replace are deleted last, so a crash at any point leaves either the old or the new address book. Each shard file
+ * ends in a checksum line, and the manifest records the length and checksum of each shard file, so that shards
+ * written by different saves are never mixed.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** Order keys are spaced apart so that employees can be inserted between others without renumbering. */
+    static final long ORDER_KEY_SPACING = 1L << 20;
+
+    static final String MESSAGE_MALFORMED_MANIFEST = "Shard manifest is malformed.";
+    static final String MESSAGE_SHARD_MISMATCH = "Shard file %s does not match the manifest.";
+    static final String MESSAGE_MALFORMED_SHARD = "Shard file %s is malformed.";
+    static final String MESSAGE_MISPLACED_EMPLOYEE = "Employee %s is in the wrong shard file %s.";
+    static final String MESSAGE_DUPLICATE_ORDER_KEY = "Shard files give two employees the same position.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String SHARD_FILE_FORMAT = "shard-%03d-%d.json";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("shard-\\d+-(\\d{1,18})\\.json");
+    private static final ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+    private static final ObjectReader SHARD_READER = objectMapper.readerFor(JsonSerializableShard.class);
+    private static final ObjectWriter SHARD_WRITER = objectMapper.writer();
+
+    private final Path filePath;
+    /** The number of shards of a new address book; an existing one keeps the number in its manifest. */
+    private final int shardCount;
+
+    /** The manifest as last read or written, or {@code null} if the files are not in a known state. */
+    private JsonSerializableShardManifest savedManifest;
+    /** The employees as last read or saved, by employee ID, or {@code null} if the files are not in a known state. */
+    private Map<String, SavedEmployee> savedEmployees;
+    /** Whether the files could not be read, in which case they are left in place for the user to recover from. */
+    private boolean isUnreadable;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Constructs a {@code ShardedAddressBookStorage} whose manifest is at {@code filePath}, which splits a new
+     * address book into {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("There must be at least one shard.");
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the sharded address book kept in place of the JSON data file at
+     * {@code jsonFilePath}, which is in a directory with the same path and a {@value #DIRECTORY_EXTENSION}
+     * extension instead.
+     */
+    public static Path getManifestPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, that holds the employee with the ID {@code employeeId}.
+     */
+    static int getShard(String employeeId, int shardCount) {
+        // String hash codes are specified, so they stay the same across runs
+        return Math.floorMod(employeeId.hashCode(), shardCount);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            savedManifest = null;
+            savedEmployees = null;
+            // Cleared once the files have been read
+            isUnreadable = Files.exists(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonSerializableShardManifest manifest = readManifest(filePath);
+            List<ReadShard> shards = readShards(filePath, manifest);
+            long[] orderKeys = new long[shards.stream().mapToInt(shard -> shard.employees.size()).sum()];
+            List<Employee> employees = mergeShards(shards, orderKeys);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            if (isOwnFile) {
+                savedManifest = manifest;
+                savedEmployees = indexEmployees(employees, orderKeys);
+                isUnreadable = false;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from sharded data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        JsonSerializableShardManifest previousManifest = isOwnFile ? savedManifest : null;
+        Map<String, SavedEmployee> previousEmployees = isOwnFile ? savedEmployees : null;
+        if (isOwnFile) {
+            // Until the manifest is written, the files are not in a known state
+            savedManifest = null;
+            savedEmployees = null;
+        }
+
+        List<Employee> employees = addressBook.getEmployeeList();
+        int count = previousManifest == null ? shardCount : previousManifest.getShards().size();
+        long[] orderKeys = previousManifest == null ? null : assignOrderKeys(employees, previousEmployees);
+        BitSet dirtyShards;
+        if (orderKeys == null) {
+            orderKeys = assignOrderKeys(employees, Collections.emptyMap());
+            dirtyShards = new BitSet(count);
+            dirtyShards.set(0, count);
+        } else {
+            dirtyShards = findDirtyShards(employees, orderKeys, previousEmployees, count);
+        }
+
+        JsonSerializableShardManifest replacedManifest = previousManifest;
+        if (replacedManifest == null && isOwnFile && !isUnreadable) {
+            // As after loading from a cache, the manifest being replaced still lists the files to delete
+            replacedManifest = readReplacedManifest(filePath);
+        }
+
+        JsonSerializableShardManifest manifest =
+                writeShards(employees, orderKeys, dirtyShards, count, previousManifest, filePath);
+        if (replacedManifest != null) {
+            deleteReplacedShards(replacedManifest, manifest, filePath);
+        }
+        if (isOwnFile) {
+            savedManifest = manifest;
+            savedEmployees = indexEmployees(employees, orderKeys);
+        }
+    }
+
+    @Override
+    public void compact() throws IOException {
+        // Every save leaves the manifest listing complete shards
+    }
+
+    /**
+     * Returns order keys for {@code employees}, in order, that keep the order keys of as many of the employees in
+     * {@code previousEmployees} as possible, or {@code null} if there is no room left between two order keys.
+     */
+    private static long[] assignOrderKeys(List<Employee> employees, Map<String, SavedEmployee> previousEmployees) {
+        int size = employees.size();
+        long[] orderKeys = new long[size];
+        boolean[] isKept = new boolean[size];
+        long previousKey = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            SavedEmployee saved = previousEmployees.get(employees.get(i).getEmployeeId().value);
+            if (saved != null && saved.orderKey > previousKey) {
+                orderKeys[i] = saved.orderKey;
+                isKept[i] = true;
+                previousKey = saved.orderKey;
+            }
+        }
+
+        try {
+            int start = 0;
+            while (start < size) {
+                if (isKept[start]) {
+                    start++;
+                    continue;
+                }
+                int end = start;
+                while (end < size && !isKept[end]) {
+                    end++;
+                }
+                // The employees from start to end need new order keys between those of their neighbours
+                long low;
+                long step = ORDER_KEY_SPACING;
+                if (end == size) {
+                    low = start == 0 ? 0 : orderKeys[start - 1];
+                } else if (start == 0) {
+                    low = Math.subtractExact(orderKeys[end], Math.multiplyExact(ORDER_KEY_SPACING, end + 1));
+                } else {
+                    low = orderKeys[start - 1];
+                    step = Math.subtractExact(orderKeys[end], low) / (end - start + 1);
+                }
+                if (step == 0) {
+                    return null;
+                }
+                for (int i = start; i < end; i++) {
+                    orderKeys[i] = Math.addExact(low, Math.multiplyExact(step, i - start + 1));
+                }
+                start = end;
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return orderKeys;
+    }
+
+    /**
+     * Returns the shards that hold employees that were added, changed, moved or removed since
+     * {@code previousEmployees} were saved.
+     */
+    private static BitSet findDirtyShards(List<Employee> employees, long[] orderKeys,
+            Map<String, SavedEmployee> previousEmployees, int count) {
+        BitSet dirtyShards = new BitSet(count);
+        int keptCount = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            SavedEmployee saved = previousEmployees.get(employee.getEmployeeId().value);
+            if (saved != null) {
+                keptCount++;
+            }
+            if (saved == null || !saved.isSavedFormOf(employee) || saved.orderKey != orderKeys[i]) {
+                dirtyShards.set(getShard(employee.getEmployeeId().value, count));
+            }
+        }
+        if (keptCount < previousEmployees.size()) {
+            Set<String> current = new HashSet<>();
+            employees.forEach(employee -> current.add(employee.getEmployeeId().value));
+            for (String employeeId : previousEmployees.keySet()) {
+                if (!current.contains(employeeId)) {
+                    dirtyShards.set(getShard(employeeId, count));
+                }
+            }
+        }
+        return dirtyShards;
+    }
+
+    /**
+     * Writes the {@code dirtyShards} of {@code employees} to new shard files and a manifest listing them at
+     * {@code manifestPath}, keeping the other shard files of {@code previousManifest}.
+     *
+     * @param previousManifest the manifest at {@code manifestPath} with {@code count} shards, or {@code null} if
+     *     it is not known, in which case every shard must be dirty.
+     */
+    private static JsonSerializableShardManifest writeShards(List<Employee> employees, long[] orderKeys,
+            BitSet dirtyShards, int count, JsonSerializableShardManifest previousManifest, Path manifestPath)
+            throws IOException {
+        long generation = previousManifest == null
+                ? getNextGeneration(manifestPath)
+                : previousManifest.getGeneration() + 1;
+        List<List<Integer>> shardMembers = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            shardMembers.add(new ArrayList<>());
+        }
+        for (int i = 0; i < employees.size(); i++) {
+            int shard = getShard(employees.get(i).getEmployeeId().value, count);
+            if (dirtyShards.get(shard)) {
+                shardMembers.get(shard).add(i);
+            }
+        }
+
+        List<JsonAdaptedShardFile> shardFiles = previousManifest == null
+                ? new ArrayList<>(Collections.nCopies(count, null))
+                : new ArrayList<>(previousManifest.getShards());
+        for (int shard = dirtyShards.nextSetBit(0); shard >= 0; shard = dirtyShards.nextSetBit(shard + 1)) {
+            String fileName = String.format(SHARD_FILE_FORMAT, shard, generation);
+            shardFiles.set(shard, writeShard(manifestPath.resolveSibling(fileName), employees, orderKeys,
+                    shardMembers.get(shard)));
+        }
+
+        JsonSerializableShardManifest manifest = new JsonSerializableShardManifest(generation, shardFiles);
+        FileUtil.writeToFileAtomically(manifestPath,
+                DataFileChecksum.withTrailer(objectMapper.writeValueAsBytes(manifest)));
+        logger.fine("Saved " + dirtyShards.cardinality() + " of " + count + " shards of " + manifestPath);
+        return manifest;
+    }
+
+    /**
+     * Deletes the shard files that {@code replacedManifest} lists and {@code manifest} no longer does.
+     */
+    private static void deleteReplacedShards(JsonSerializableShardManifest replacedManifest,
+            JsonSerializableShardManifest manifest, Path manifestPath) {
+        Set<String> keptFiles = new HashSet<>();
+        manifest.getShards().forEach(shardFile -> keptFiles.add(shardFile.getFile()));
+        for (JsonAdaptedShardFile shardFile : replacedManifest.getShards()) {
+            if (keptFiles.contains(shardFile.getFile())) {
+                continue;
+            }
+            Path replaced = manifestPath.resolveSibling(shardFile.getFile());
+            try {
+                Files.deleteIfExists(replaced);
+            } catch (IOException e) {
+                // The save is complete; the file is only left behind
+                logger.warning("Could not delete replaced shard file " + replaced + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Returns the manifest at {@code manifestPath}, or {@code null} if there is none or it cannot be read.
+     */
+    private static JsonSerializableShardManifest readReplacedManifest(Path manifestPath) {
+        if (!Files.exists(manifestPath)) {
+            return null;
+        }
+        try {
+            return readManifest(manifestPath);
+        } catch (IOException | IllegalValueException | DataLoadingException e) {
+            logger.warning("Shard files of the unreadable manifest " + manifestPath + " are left in place: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the employees at {@code members} of {@code employees} to a shard file at {@code shardPath}, ending in
+     * a checksum line, and returns its entry in the manifest.
+     */
+    private static JsonAdaptedShardFile writeShard(Path shardPath, List<Employee> employees, long[] orderKeys,
+            List<Integer> members) throws IOException {
+        List<Long> shardOrderKeys = new ArrayList<>(members.size());
+        List<JsonAdaptedPerson> persons = new ArrayList<>(members.size());
+        for (int i : members) {
+            shardOrderKeys.add(orderKeys[i]);
+            persons.add(new JsonAdaptedPerson(employees.get(i)));
+        }
+        JsonSerializableShard shard = new JsonSerializableShard(shardOrderKeys, persons);
+
+        AtomicReference<ChecksumOutputStream> shardFile = new AtomicReference<>();
+        ContentWriter content = DataFileChecksum.withTrailer(out -> writeJson(shard, out));
+        FileUtil.writeToFileAtomically(shardPath, out -> {
+            shardFile.set(new ChecksumOutputStream(out));
+            content.writeTo(shardFile.get());
+        });
+        return new JsonAdaptedShardFile(shardPath.getFileName().toString(), shardFile.get().getLength(),
+                shardFile.get().getChecksum());
+    }
+
+    private static void writeJson(JsonSerializableShard shard, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        try (generator) {
+            SHARD_WRITER.writeValue(generator, shard);
+        }
+    }
+
+    /**
+     * Returns a generation number higher than that of any shard file next to {@code manifestPath}, so that shard
+     * files of an unknown manifest are not overwritten.
+     */
+    private static long getNextGeneration(Path manifestPath) throws IOException {
+        Path directory = manifestPath.toAbsolutePath().getParent();
+        long generation = 0;
+        if (!Files.isDirectory(directory)) {
+            return generation + 1;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generation = Math.max(generation, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return generation + 1;
+    }
+
+    private static JsonSerializableShardManifest readManifest(Path manifestPath)
+            throws IOException, IllegalValueException, DataLoadingException {
+        byte[] content = DataFileChecksum.verifyAndStrip(Files.readAllBytes(manifestPath));
+        JsonSerializableShardManifest manifest = objectMapper.readValue(content, JsonSerializableShardManifest.class);
+        if (manifest == null || manifest.getShards().isEmpty()) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_MANIFEST);
+        }
+        for (JsonAdaptedShardFile shardFile : manifest.getShards()) {
+            // Shard files are only ever next to the manifest
+            if (shardFile == null || shardFile.getFile() == null || shardFile.getLength() == null
+                    || shardFile.getChecksum() == null || !SHARD_FILE_PATTERN.matcher(shardFile.getFile()).matches()) {
+                throw new IllegalValueException(MESSAGE_MALFORMED_MANIFEST);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Reads the shards listed by {@code manifest} in parallel on the common fork-join pool.
+     * If several shards cannot be read, the error of the first one is reported.
+     */
+    private static List<ReadShard> readShards(Path manifestPath, JsonSerializableShardManifest manifest)
+            throws IOException, IllegalValueException, DataLoadingException {
+        int count = manifest.getShards().size();
+        List<ForkJoinTask<ReadShard>> tasks = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            JsonAdaptedShardFile shardFile = manifest.getShards().get(shard);
+            int index = shard;
+            tasks.add(ForkJoinPool.commonPool().submit(() -> readShard(manifestPath, shardFile, index, count)));
+        }
+
+        List<ReadShard> shards = new ArrayList<>(count);
+        try {
+            for (ForkJoinTask<ReadShard> task : tasks) {
+                ReadShard shard = task.join();
+                shard.rethrowError();
+                shards.add(shard);
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+        return shards;
+    }
+
+    private static ReadShard readShard(Path manifestPath, JsonAdaptedShardFile shardFile, int shard, int count) {
+        Path shardPath = manifestPath.resolveSibling(shardFile.getFile());
+        try (DataFileInputStream in = DataFileInputStream.open(shardPath)) {
+            JsonSerializableShard content;
+            try {
+                content = SHARD_READER.readValue(in);
+            } catch (IOException e) {
+                in.verify();
+                throw e;
+            }
+            in.verify();
+            if (in.getFileLength() != shardFile.getLength() || in.getFileChecksum() != shardFile.getChecksum()) {
+                throw new IllegalValueException(String.format(MESSAGE_SHARD_MISMATCH, shardFile.getFile()));
+            }
+            return toModelType(content, shardFile.getFile(), shard, count);
+        } catch (IOException | IllegalValueException | DataLoadingException e) {
+            return new ReadShard(e);
+        }
+    }
+
+    /**
+     * Converts {@code content}, read from the shard file {@code fileName}, into employees and their order keys.
+     */
+    private static ReadShard toModelType(JsonSerializableShard content, String fileName, int shard, int count)
+            throws IllegalValueException {
+        if (content == null || content.getOrderKeys().size() != content.getPersons().size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MALFORMED_SHARD, fileName));
+        }
+        int size = content.getPersons().size();
+        List<Employee> employees = new ArrayList<>(size);
+        long[] orderKeys = new long[size];
+        Set<String> employeeIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            Long orderKey = content.getOrderKeys().get(i);
+            if (orderKey == null || i > 0 && orderKey <= orderKeys[i - 1] || content.getPersons().get(i) == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MALFORMED_SHARD, fileName));
+            }
+            Employee employee = content.getPersons().get(i).toModelType();
+            String employeeId = employee.getEmployeeId().value;
+            if (getShard(employeeId, count) != shard) {
+                throw new IllegalValueException(String.format(MESSAGE_MISPLACED_EMPLOYEE, employeeId, fileName));
+            }
+            // Employees with the same ID are always in the same shard
+            if (!employeeIds.add(employeeId)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            employees.add(employee);
+            orderKeys[i] = orderKey;
+        }
+        return new ReadShard(employees, orderKeys);
+    }
+
+    /**
+     * Returns the employees of {@code shards} merged by order key, and puts their order keys in {@code orderKeys}.
+     */
+    private static List<Employee> mergeShards(List<ReadShard> shards, long[] orderKeys)
+            throws IllegalValueException {
+        List<Employee> employees = new ArrayList<>(orderKeys.length);
+        int[] positions = new int[shards.size()];
+        PriorityQueue<Integer> next = new PriorityQueue<>(Math.max(1, shards.size()), (first, second) ->
+                Long.compare(shards.get(first).orderKeys[positions[first]],
+                        shards.get(second).orderKeys[positions[second]]));
+        for (int shard = 0; shard < shards.size(); shard++) {
+            if (!shards.get(shard).employees.isEmpty()) {
+                next.add(shard);
+            }
+        }
+        while (!next.isEmpty()) {
+            int shard = next.poll();
+            ReadShard readShard = shards.get(shard);
+            long orderKey = readShard.orderKeys[positions[shard]];
+            if (!employees.isEmpty() && orderKeys[employees.size() - 1] == orderKey) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER_KEY);
+            }
+            orderKeys[employees.size()] = orderKey;
+            employees.add(readShard.employees.get(positions[shard]));
+            positions[shard]++;
+            if (positions[shard] < readShard.employees.size()) {
+                next.add(shard);
+            }
+        }
+        return employees;
+    }
+
+    private static Map<String, SavedEmployee> indexEmployees(List<Employee> employees, long[] orderKeys) {
+        Map<String, SavedEmployee> index = new HashMap<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            index.put(employee.getEmployeeId().value, new SavedEmployee(employee, orderKeys[i]));
+        }
+        return index;
+    }
+
+    /**
+     * The employees of one shard file and their order keys, or the error that stopped it from being read.
+     */
+    private static class ReadShard {
+        private final List<Employee> employees;
+        private final long[] orderKeys;
+        private final Exception error;
+
+        ReadShard(List<Employee> employees, long[] orderKeys) {
+            this.employees = employees;
+            this.orderKeys = orderKeys;
+            this.error = null;
+        }
+
+        ReadShard(Exception error) {
+            this.employees = List.of();
+            this.orderKeys = new long[0];
+            this.error = error;
+        }
+
+        void rethrowError() throws IOException, IllegalValueException, DataLoadingException {
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            } else if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            } else if (error instanceof DataLoadingException) {
+                throw (DataLoadingException) error;
+            }
+        }
+    }
+
+    /**
+     * An employee as it was when last saved, with its order key.
+     */
+    private static class SavedEmployee {
+        private final Employee employee;
+        private final long orderKey;
+
+        SavedEmployee(Employee employee, long orderKey) {
+            this.employee = employee;
+            this.orderKey = orderKey;
+        }
+
+        /** Employees are not changed in place, so an employee is saved in its current form if it is the same. */
+        boolean isSavedFormOf(Employee current) {
+            return employee == current;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, so that the caller does not wait
+ * for the file to be written.
+ *
+ * Address books submitted while an earlier one is waiting to be written replace it, so a burst of changes
+ * results in a single write of the latest address book. Submitted address books must not be changed afterwards.
+ * A failed write is kept until it is reported by {@link #pollFailure()} or {@link #flush()}.
+ *
+ * Each address book is submitted with its model version, so that callers can tell whether the latest version
+ * has already been submitted or saved and skip saving it again.
+ */
+public class WriteBehindAddressBookSaver {
+
+    /** How long a submitted address book waits for newer ones before it is written. */
+    public static final Duration DEFAULT_COALESCING_DELAY = Duration.ofMillis(200);
+    /** The version reported before any address book has been submitted or saved. */
+    public static final long NO_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long coalescingDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest address book submitted and not yet taken for writing, guarded by {@code this}. */
+    private ReadOnlyAddressBook pending;
+    private long pendingVersion;
+    /** The version of the latest address book submitted, guarded by {@code this}. */
+    private long submittedVersion = NO_VERSION;
+    /** The version of the latest address book written successfully, guarded by {@code this}. */
+    private long savedVersion = NO_VERSION;
+    /** Whether a write is scheduled or in progress, guarded by {@code this}. */
+    private boolean isBusy;
+    /** The failure of the latest failed write, if it has not been reported yet, guarded by {@code this}. */
+    private IOException failure;
+
+    /**
+     * Creates a saver that writes to {@code storage} once {@code coalescingDelay} has passed without
+     * newer address books being submitted, or once the current write finishes, whichever is later.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, Duration coalescingDelay) {
+        this.storage = requireNonNull(storage);
+        this.coalescingDelayMillis = requireNonNull(coalescingDelay).toMillis();
+    }
+
+    /**
+     * Creates a saver that writes to {@code storage} after the {@link #DEFAULT_COALESCING_DELAY}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage) {
+        this(storage, DEFAULT_COALESCING_DELAY);
+    }
+
+    /**
+     * Schedules {@code addressBook}, the model's address book at {@code version}, to be written, replacing any
+     * address book still waiting to be written.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook, long version) {
+        requireNonNull(addressBook);
+        pending = addressBook;
+        pendingVersion = version;
+        submittedVersion = version;
+        if (!isBusy) {
+            isBusy = true;
+            executor.schedule(this::writePending, coalescingDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the version of the latest address book submitted, or {@link #NO_VERSION} if there is none.
+     */
+    public synchronized long getSubmittedVersion() {
+        return submittedVersion;
+    }
+
+    /**
+     * Returns the version of the latest address book written successfully, or {@link #NO_VERSION} if there is none.
+     */
+    public synchronized long getSavedVersion() {
+        return savedVersion;
+    }
+
+    /**
+     * Returns the failure of the latest write if it has not been reported yet, and marks it as reported.
+     */
+    public synchronized Optional<IOException> pollFailure() {
+        IOException unreported = failure;
+        failure = null;
+        return Optional.ofNullable(unreported);
+    }
+
+    /**
+     * Writes any address book waiting to be written without further delay, and waits until it has been written.
+     * The storage then folds any changes it keeps apart from the data file into the data file.
+     *
+     * @throws IOException if the latest write failed and its failure has not been reported yet, or if the data
+     *     file could not be compacted.
+     */
+    public void flush() throws IOException {
+        awaitWrites();
+        Optional<IOException> unreported = pollFailure();
+        if (unreported.isPresent()) {
+            throw unreported.get();
+        }
+        storage.compact();
+    }
+
+    /**
+     * Writes any address book waiting to be written without further delay, and waits until it has been written.
+     * Unlike {@link #flush()}, a failed write is left to be reported later.
+     */
+    public synchronized void awaitWrites() throws InterruptedIOException {
+        if (pending != null) {
+            executor.execute(this::writePending);
+        }
+        try {
+            while (isBusy) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be saved");
+        }
+    }
+
+    /**
+     * Writes the address books waiting to be written until there are none left.
+     */
+    private void writePending() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            long version;
+            synchronized (this) {
+                addressBook = pending;
+                version = pendingVersion;
+                pending = null;
+                if (addressBook == null) {
+                    isBusy = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            IOException writeFailure = null;
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                logger.warning("Failed to save data file: " + StringUtil.getDetails(e));
+                writeFailure = e;
+            } catch (RuntimeException e) {
+                logger.severe("Failed to save data file: " + StringUtil.getDetails(e));
+                writeFailure = new IOException(e.getMessage(), e);
+            }
+            synchronized (this) {
+                if (writeFailure != null) {
+                    // A later successful write must not hide a failure that has not been reported yet
+                    failure = writeFailure;
+                } else {
+                    savedVersion = version;
+                }
+            }
+        }
+    }
+}
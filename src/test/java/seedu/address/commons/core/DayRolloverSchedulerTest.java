@@ -0,0 +1,148 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class DayRolloverSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(23, 59, 30));
+    private final ManualScheduledExecutor executor = new ManualScheduledExecutor();
+    private final List<LocalDate> rollovers = new ArrayList<>();
+    private final DayRolloverScheduler scheduler = new DayRolloverScheduler(clock, rollovers::add, executor);
+
+    @Test
+    public void start_schedulesCheckAtNextMidnight() {
+        scheduler.start();
+        assertEquals(List.of(Duration.ofSeconds(30).toMillis()), executor.delays);
+
+        clock.setTime(TODAY.atStartOfDay());
+        executor.delays.clear();
+        scheduler.start();
+        assertEquals(List.of(Duration.ofDays(1).toMillis()), executor.delays);
+    }
+
+    @Test
+    public void check_afterMidnight_notifiesNewDateAndSchedulesNextMidnight() {
+        scheduler.start();
+        clock.setTime(TODAY.plusDays(1).atTime(0, 0, 1));
+        executor.runNext();
+
+        assertEquals(List.of(TODAY.plusDays(1)), rollovers);
+        assertEquals(List.of(Duration.ofSeconds(30).toMillis(), Duration.ofDays(1).minusSeconds(1).toMillis()),
+                executor.delays);
+    }
+
+    @Test
+    public void check_firedEarly_waitsForRemainingTime() {
+        scheduler.start();
+        clock.setTime(TODAY.atTime(23, 59, 59, 990_000_000));
+        executor.runNext();
+
+        assertTrue(rollovers.isEmpty());
+        assertEquals(List.of(Duration.ofSeconds(30).toMillis(), 10L), executor.delays);
+    }
+
+    @Test
+    public void check_listenerFails_keepsWatching() {
+        DayRolloverScheduler failingScheduler = new DayRolloverScheduler(clock, today -> {
+            throw new IllegalStateException("failure");
+        }, executor);
+        failingScheduler.start();
+        clock.setTime(TODAY.plusDays(1).atStartOfDay());
+        executor.runNext();
+
+        assertEquals(2, executor.tasks.size());
+    }
+
+    @Test
+    public void check_afterMidnight_advancesReminderList() {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("a")
+                .withAnniversary("2000-03-12", "Birthday", "Birthday", "Birthday").build());
+        model.updateReminderList();
+        assertEquals(2, model.getReminderList().get(0).getDaysLeft());
+
+        new DayRolloverScheduler(clock, model::rollOverToDate, executor).start();
+        clock.setTime(TODAY.plusDays(1).atStartOfDay());
+        executor.runNext();
+
+        assertEquals(TODAY.plusDays(1), model.getToday());
+        assertEquals(1, model.getReminderList().get(0).getDaysLeft());
+    }
+
+    /**
+     * A clock whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * An executor that records the scheduled tasks and their delays instead of running them.
+     */
+    private static class ManualScheduledExecutor extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private final List<Long> delays = new ArrayList<>();
+        private int nextTask;
+
+        ManualScheduledExecutor() {
+            super(0);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            tasks.add(command);
+            delays.add(unit.toMillis(delay));
+            return null;
+        }
+
+        void runNext() {
+            tasks.get(nextTask++).run();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
@@ -20,4 +30,34 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentWithoutLeftovers(@TempDir Path folder)
+            throws IOException {
+        Path file = folder.resolve("nested").resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "old".getBytes(StandardCharsets.UTF_8));
+        FileUtil.writeToFileAtomically(file, "new".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_failedWrite_keepsOldContentWithoutLeftovers(@TempDir Path folder)
+            throws IOException {
+        Path file = folder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
 }
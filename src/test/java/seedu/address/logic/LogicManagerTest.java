@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.BIRTHDAY_DESC_AMY;
@@ -15,8 +17,11 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -26,6 +31,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -34,6 +40,7 @@ import seedu.address.model.person.Employee;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 import seedu.address.testutil.EmployeeBuilder;
 
 public class LogicManagerTest {
@@ -56,6 +63,12 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() throws CommandException {
+        // Finish saving in the background before the temporary folder is deleted
+        logic.flush();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -86,6 +99,25 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void flush_afterCommand_savesAddressBook() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + JOB_DESC_AMY + BIRTHDAY_DESC_AMY + WORK_ANNIVERSARY_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flush();
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(addressBookPath).readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(saved));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,6 +178,7 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The failure is reported by the next command, since the address book is saved in the background.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
@@ -162,11 +195,8 @@ public class LogicManagerTest {
             }
         };
 
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(addressBookStorage, Duration.ZERO);
+        logic = new LogicManager(model, saver);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddEmployeeCommand.COMMAND_WORD + EID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -174,6 +204,12 @@ public class LogicManagerTest {
         Employee expectedEmployee = new EmployeeBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addEmployee(expectedEmployee);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertDoesNotThrow(saver::awaitWrites);
+
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
+
+        // the failed save is retried, and fails again
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flush());
     }
 }
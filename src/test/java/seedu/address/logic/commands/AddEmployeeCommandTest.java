@@ -9,8 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -137,6 +139,11 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasEmployee(Employee employee) {
             throw new AssertionError("This method should not be called.");
@@ -152,6 +159,11 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getEmployeeIdPrefixConflictCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasDuplicateEmployeeDetails(Employee employee) {
             throw new AssertionError("This method should not be called.");
@@ -182,6 +194,16 @@ public class AddEmployeeCommandTest {
             return null;
         }
 
+        @Override
+        public int countEmployeesWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Employee> getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -192,6 +214,36 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateReminderList(int daysAhead) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateReminderList(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollOverToDate(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setEmployeeListSortedByUpcomingDate(boolean isSortedByUpcomingDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Reminder> getReminderList() {
             throw new AssertionError("This method should not be called.");
@@ -253,5 +305,10 @@ public class AddEmployeeCommandTest {
         public ObservableList<Reminder> getReminderList() {
             return javafx.collections.FXCollections.observableArrayList(); // or stub list
         }
+
+        @Override
+        public LocalDate getToday() {
+            return LocalDate.of(2025, 6, 1);
+        }
     }
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.EmployeeBuilder;
+
+class HistoryCommandTest {
+
+    @Test
+    void execute_afterChanges_reportsDepths() throws CommandException {
+        Model model = new ModelManager();
+        model.commitChanges();
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("a").build());
+        model.commitChanges();
+        model.addEmployee(new EmployeeBuilder().withEmployeeId("b").build());
+        new UndoCommand().execute(model);
+
+        String feedback = new HistoryCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith("Changes that can be undone: 1 (0 kept on disk)\n"
+                + "Changes that can be redone: 1\n"), feedback);
+        assertTrue(feedback.endsWith("Disk used: 0 B"), feedback);
+    }
+
+    @Test
+    void formatBytes() {
+        assertEquals("0 B", HistoryCommand.formatBytes(0));
+        assertEquals("1023 B", HistoryCommand.formatBytes(1023));
+        assertEquals(String.format("%.1f KiB", 1.5), HistoryCommand.formatBytes(1536));
+        assertEquals(String.format("%.1f MiB", 16.0), HistoryCommand.formatBytes(16L * 1024 * 1024));
+    }
+}
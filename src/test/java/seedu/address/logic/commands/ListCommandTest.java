@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showEmployeeAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EMPLOYEE;
@@ -36,4 +38,23 @@ public class ListCommandTest {
         showEmployeeAtIndex(model, INDEX_FIRST_EMPLOYEE);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_upcoming_showsEverythingByUpcomingDate() {
+        showEmployeeAtIndex(model, INDEX_FIRST_EMPLOYEE);
+        expectedModel.setEmployeeListSortedByUpcomingDate(true);
+        assertCommandSuccess(new ListCommand(true), model, ListCommand.MESSAGE_SUCCESS_UPCOMING, expectedModel);
+
+        // listing again without the keyword goes back to address book order
+        expectedModel.setEmployeeListSortedByUpcomingDate(false);
+        assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new ListCommand().equals(new ListCommand(false)));
+        assertTrue(new ListCommand(true).equals(new ListCommand(true)));
+        assertFalse(new ListCommand().equals(new ListCommand(true)));
+        assertFalse(new ListCommand().equals(null));
+    }
 }
@@ -2,10 +2,14 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -59,4 +63,19 @@ class UndoCommandTest {
         // Assert that undo fails because there is no delete to undo
         assertEquals(UndoCommand.MESSAGE_FAILURE, result.getFeedbackToUser());
     }
+
+    @Test
+    void execute_historyCannotBeReadBack_throwsCommandException() {
+        ModelManager unreadableModel = new ModelManager() {
+            @Override
+            public void undoAddressBook() throws DataLoadingException {
+                throw new DataLoadingException(new IOException("unreadable"));
+            }
+        };
+        unreadableModel.commitChanges();
+        unreadableModel.addEmployee(new EmployeeBuilder().build());
+
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_HISTORY_LOST, () ->
+                undoCommand.execute(unreadableModel));
+    }
 }
@@ -5,16 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_ANNIVERSARY;
 import static seedu.address.logic.Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX;
+import static seedu.address.logic.Messages.MESSAGE_WARNING_ANNI_AFTER_TODAY;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import javafx.collections.FXCollections;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.anniversary.Anniversary;
@@ -35,6 +36,7 @@ public class AddAnniversaryCommandTest {
     @BeforeEach
     public void setUp() {
         model = Mockito.mock(Model.class);
+        Mockito.when(model.getToday()).thenReturn(LocalDate.of(2025, 6, 1));
         validEmployeeId = EmployeeId.fromString("00000000-0000-0000-0000-000000000001");
         validAnniversary = new Anniversary(
                 LocalDate.of(2025, 3, 13),
@@ -56,8 +58,7 @@ public class AddAnniversaryCommandTest {
     @Test
     public void execute_addValidAnniversary_success() throws Exception {
         // Arrange
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        stubMatches(validEmployeeId, baseEmployee);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act
@@ -68,11 +69,22 @@ public class AddAnniversaryCommandTest {
         assertEquals("New anniversary added: " + validAnniversary, result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_anniversaryAfterModelToday_warns() throws Exception {
+        Mockito.when(model.getToday()).thenReturn(LocalDate.of(2025, 3, 12));
+        stubMatches(validEmployeeId, baseEmployee);
+        AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
+
+        var result = command.execute(model);
+
+        assertEquals("New anniversary added: " + validAnniversary + "\n" + MESSAGE_WARNING_ANNI_AFTER_TODAY,
+                result.getFeedbackToUser());
+    }
+
     @Test
     public void execute_noMatchingEmployee_throwsCommandException() {
         // Arrange
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList());
+        stubMatches(validEmployeeId);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -92,8 +104,7 @@ public class AddAnniversaryCommandTest {
                 .tags(new HashSet<>())
                 .anniversaries(new ArrayList<>())
                 .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee, secondEmployee));
+        stubMatches(validEmployeeId, baseEmployee, secondEmployee);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -115,8 +126,7 @@ public class AddAnniversaryCommandTest {
                 .tags(baseEmployee.getTags())
                 .anniversaries(existing)
                 .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(employeeWithAnniversary));
+        stubMatches(validEmployeeId, employeeWithAnniversary);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -133,8 +143,7 @@ public class AddAnniversaryCommandTest {
                 "" // Name
         );
 
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        stubMatches(validEmployeeId, baseEmployee);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, minimalAnniversary);
 
         var result = command.execute(model);
@@ -171,8 +180,7 @@ public class AddAnniversaryCommandTest {
                 .anniversaries(existingList)
                 .build();
 
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(personWithAnni));
+        stubMatches(validEmployeeId, personWithAnni);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, newAnni);
 
         var result = command.execute(model);
@@ -185,8 +193,7 @@ public class AddAnniversaryCommandTest {
 
     @Test
     public void execute_addAnniversary_returnsNewPersonObject() throws Exception {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        stubMatches(validEmployeeId, baseEmployee);
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         command.execute(model);
@@ -205,4 +212,13 @@ public class AddAnniversaryCommandTest {
     public void constructor_nullEmployeeId_throwsException() {
         assertThrows(NullPointerException.class, () -> new AddAnniversaryCommand(null, validAnniversary));
     }
+
+    /**
+     * Makes {@code model} report {@code matches} as the employees whose employee ID starts with {@code prefix}.
+     */
+    private void stubMatches(EmployeeId prefix, Employee... matches) {
+        Mockito.when(model.countEmployeesWithEmployeeIdPrefix(prefix)).thenReturn(matches.length);
+        Mockito.when(model.getUniqueEmployeeWithEmployeeIdPrefix(prefix))
+                .thenReturn(matches.length == 1 ? Optional.of(matches[0]) : Optional.empty());
+    }
 }
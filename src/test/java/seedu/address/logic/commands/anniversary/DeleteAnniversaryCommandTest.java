@@ -10,12 +10,12 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import javafx.collections.FXCollections;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -60,8 +60,7 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_deleteAnniversary_success() throws CommandException {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        stubMatches(employeeId, baseEmployee);
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         String feedback = cmd.execute(model).getFeedbackToUser();
@@ -71,8 +70,7 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_noMatchingEmployee_throwsCommandException() {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList());
+        stubMatches(employeeId);
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -90,8 +88,7 @@ public class DeleteAnniversaryCommandTest {
                 .tags(new HashSet<>())
                 .anniversaries(Collections.singletonList(anniversaryOne))
                 .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee, otherEmployee));
+        stubMatches(employeeId, baseEmployee, otherEmployee);
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -100,11 +97,19 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_outOfBoundsIndex_throwsCommandException() {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        stubMatches(employeeId, baseEmployee);
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(999), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
         assertEquals(MESSAGE_ANNIVERSARY_OUT_OF_BOUNDS, ex.getMessage());
     }
+
+    /**
+     * Makes {@code model} report {@code matches} as the employees whose employee ID starts with {@code prefix}.
+     */
+    private void stubMatches(EmployeeId prefix, Employee... matches) {
+        Mockito.when(model.countEmployeesWithEmployeeIdPrefix(prefix)).thenReturn(matches.length);
+        Mockito.when(model.getUniqueEmployeeWithEmployeeIdPrefix(prefix))
+                .thenReturn(matches.length == 1 ? Optional.of(matches[0]) : Optional.empty());
+    }
 }
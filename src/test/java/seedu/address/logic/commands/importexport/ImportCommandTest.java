@@ -20,7 +20,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +42,7 @@ import seedu.address.model.person.Employee;
 import seedu.address.storage.JsonAdaptedPerson;
 import seedu.address.storage.JsonSerializableAddressBook;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class ImportCommandTest {
@@ -197,7 +197,8 @@ public class ImportCommandTest {
 
 
     /**
-     * Tests how the getAnniversaries().addAll() method is called when contacts with same details are found.
+     * Tests that a contact with the same details as an existing one is replaced by a copy holding both
+     * anniversary lists, leaving the existing contact unchanged.
      * @throws Exception
      */
     @Test
@@ -220,27 +221,25 @@ public class ImportCommandTest {
             // Mock getPersons() to return the controlled list
             when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
 
-            // Create a mock Employee
-            Employee mockExistingEmployee = mock(Employee.class);
-            when(mockExistingEmployee.isSameEmployee(any())).thenReturn(true);
-            when(mockExistingEmployee.hasSameDetails(any())).thenReturn(true);
+            // An existing employee with the same details but other anniversaries
+            Employee existingEmployee = new EmployeeBuilder(ALICE)
+                    .withAnniversary("2020-01-01", "Birthday", "Birthday", "Existing anniversary").build();
+            List<Anniversary> existingAnniversaries = new ArrayList<>(existingEmployee.getAnniversaries());
 
-            // Create a separate mock for the anniversaries list
-            @SuppressWarnings("unchecked")
-            ObservableList<Anniversary> mockAnniversaryList = mock(ObservableList.class);
-            when(mockExistingEmployee.getAnniversaries()).thenReturn(mockAnniversaryList);
-
-            // Return our mock when searching for ALICE
-            ObservableList<Employee> matchList = FXCollections.observableArrayList(mockExistingEmployee);
+            // Return the existing employee when searching for ALICE
+            ObservableList<Employee> matchList = FXCollections.observableArrayList(existingEmployee);
             when(model.getFullFilteredByEmployeeIdPrefixListFromData(ALICE.getEmployeeId()))
                     .thenReturn(matchList);
 
             importCommand = new ImportCommand("json", jsonFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
-            // Use ArgumentCaptor to specify the Collection version of addAll
-            ArgumentCaptor<Collection<Anniversary>> captor = ArgumentCaptor.forClass(Collection.class);
-            verify(mockAnniversaryList, times(1)).addAll(captor.capture());
+            ArgumentCaptor<Employee> captor = ArgumentCaptor.forClass(Employee.class);
+            verify(model, times(1)).setEmployee(eq(existingEmployee), captor.capture());
+            List<Anniversary> mergedAnniversaries = new ArrayList<>(existingAnniversaries);
+            mergedAnniversaries.addAll(ALICE.getAnniversaries());
+            assertEquals(mergedAnniversaries, captor.getValue().getAnniversaries());
+            assertEquals(existingAnniversaries, existingEmployee.getAnniversaries());
 
             assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_APPEND, 1, 0, "Conflicting records found:\n"),
                     result.getFeedbackToUser());
@@ -2,6 +2,11 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +62,39 @@ public class ReminderCommandParserTest {
         assertDoesNotThrow(() -> parser.parse(" "));
         assertDoesNotThrow(() -> parser.parse("reminder test"));
     }
+
+    @Test
+    public void parse_days_returnsReminderCommand() {
+        assertParseSuccess(parser, " d/30", new ReminderCommand(30));
+        assertParseSuccess(parser, " d/0", new ReminderCommand(0));
+        assertParseSuccess(parser, "", new ReminderCommand());
+    }
+
+    @Test
+    public void parse_invalidDays_throwsParseException() {
+        assertParseFailure(parser, " d/-1", ReminderCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/abc", ReminderCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/367", ReminderCommandParser.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_dateRange_returnsReminderCommand() {
+        assertParseSuccess(parser, " from/2026-12-01 to/2027-01-31",
+                new ReminderCommand(LocalDate.of(2026, 12, 1), LocalDate.of(2027, 1, 31)));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " from/2026-12-01 to/2026-11-30", ReminderCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " from/2026-01-01 to/2027-01-02", ReminderCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " from/2026-13-01 to/2027-01-31", ReminderCommandParser.MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_mixedOrIncompleteArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " d/30 from/2026-12-01 to/2027-01-31", expectedMessage);
+        assertParseFailure(parser, " from/2026-12-01", expectedMessage);
+        assertParseFailure(parser, " to/2026-12-01", expectedMessage);
+    }
 }
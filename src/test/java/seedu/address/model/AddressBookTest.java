@@ -43,6 +43,18 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void copyConstructor_laterChanges_doNotAffectEachOther() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original, copy);
+
+        copy.removePerson(ALICE);
+        assertTrue(original.hasPerson(ALICE));
+        assertFalse(copy.hasPerson(ALICE));
+        assertEquals(original.getEmployeeList().size() - 1, copy.getEmployeeList().size());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two employees with the same identity fields
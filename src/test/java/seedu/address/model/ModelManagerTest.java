@@ -10,13 +10,25 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.reminder.Reminder;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +100,264 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasEmployee(ALICE));
     }
 
+    @Test
+    public void getEmployeeIdPrefixConflictCount_followsMutations() {
+        Employee prefixOfAlice = new EmployeeBuilder(BENSON)
+                .withEmployeeId(ALICE.getEmployeeId().value.substring(0, 8)).build();
+        modelManager.addEmployee(ALICE);
+        assertEquals(0, modelManager.getEmployeeIdPrefixConflictCount());
+
+        modelManager.addEmployee(prefixOfAlice);
+        assertEquals(1, modelManager.getEmployeeIdPrefixConflictCount());
+
+        modelManager.deleteEmployee(prefixOfAlice);
+        assertEquals(0, modelManager.getEmployeeIdPrefixConflictCount());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(ALICE).withEmployee(prefixOfAlice).build());
+        assertEquals(1, modelManager.getEmployeeIdPrefixConflictCount());
+    }
+
+    @Test
+    public void getUniqueEmployeeWithEmployeeIdPrefix_countsMatchesInFullData() {
+        Employee first = new EmployeeBuilder(ALICE).withEmployeeId("ab2").build();
+        Employee second = new EmployeeBuilder(BENSON).withEmployeeId("ab1").build();
+        modelManager.addEmployee(first);
+        modelManager.addEmployee(second);
+        modelManager.updateFilteredEmployeeList(employee -> false);
+
+        assertEquals(2, modelManager.countEmployeesWithEmployeeIdPrefix(EmployeeId.fromString("ab")));
+        assertFalse(modelManager.getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId.fromString("ab")).isPresent());
+        assertEquals(1, modelManager.countEmployeesWithEmployeeIdPrefix(EmployeeId.fromString("ab1")));
+        assertEquals(second, modelManager.getUniqueEmployeeWithEmployeeIdPrefix(EmployeeId.fromString("ab1")).get());
+        assertEquals(0, modelManager.countEmployeesWithEmployeeIdPrefix(EmployeeId.fromString("ac")));
+    }
+
+    @Test
+    public void getFilteredByEmployeeIdPrefixListFromObservable_followsView() {
+        Employee first = new EmployeeBuilder(ALICE).withEmployeeId("ab2").build();
+        Employee second = new EmployeeBuilder(BENSON).withEmployeeId("ab1").build();
+        modelManager.addEmployee(first);
+        modelManager.addEmployee(second);
+
+        // in display order, not in order of employee ID
+        ObservableList<Employee> matches =
+                modelManager.getFilteredByEmployeeIdPrefixListFromObservable(EmployeeId.fromString("ab"));
+        assertEquals(List.of(first, second), matches);
+
+        modelManager.updateFilteredEmployeeList(employee -> employee.equals(second));
+        assertEquals(List.of(second), matches);
+    }
+
+    @Test
+    public void undoRedo_revertsEachStepInPlace() throws Exception {
+        Employee editedBenson = new EmployeeBuilder(BENSON).withName("Benson Edited").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(ALICE).withEmployee(BENSON).build());
+
+        modelManager.commitChanges();
+        modelManager.deleteEmployee(ALICE);
+        modelManager.setEmployee(BENSON, editedBenson);
+        modelManager.commitChanges();
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getAddressBook().getEmployeeList().isEmpty());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(editedBenson), modelManager.getAddressBook().getEmployeeList());
+
+        // the deleted employee goes back to where it was
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getEmployeeList());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(editedBenson), modelManager.getAddressBook().getEmployeeList());
+        modelManager.redoAddressBook();
+        assertTrue(modelManager.getAddressBook().getEmployeeList().isEmpty());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undo_stepsBeyondBudget_areReadBackFromDisk() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxEntries(2);
+        ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Employee employee = new EmployeeBuilder(ALICE).withEmployeeId("id" + i).build();
+            employees.add(employee);
+            model.commitChanges();
+            model.addEmployee(employee);
+        }
+        model.commitChanges();
+        model.setAddressBook(new AddressBook());
+
+        HistoryUsage usage = model.getHistoryUsage();
+        assertEquals(6, usage.undoDepth());
+        assertEquals(4, usage.undoStepsOnDisk());
+        assertTrue(usage.diskBytes() > 0);
+
+        model.undoAddressBook();
+        assertEquals(employees, model.getAddressBook().getEmployeeList());
+        for (int i = 4; i >= 0; i--) {
+            model.undoAddressBook();
+            assertEquals(employees.subList(0, i), model.getAddressBook().getEmployeeList());
+        }
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(0, model.getHistoryUsage().diskBytes());
+
+        model.redoAddressBook();
+        assertEquals(employees.subList(0, 1), model.getAddressBook().getEmployeeList());
+    }
+
+    @Test
+    public void setUserPrefs_smallerByteBudget_movesOlderStepsToDisk() throws Exception {
+        modelManager.commitChanges();
+        modelManager.addEmployee(ALICE);
+        modelManager.commitChanges();
+        modelManager.addEmployee(BENSON);
+        assertEquals(0, modelManager.getHistoryUsage().undoStepsOnDisk());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxBytes(0);
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(1, modelManager.getHistoryUsage().undoStepsOnDisk());
+        assertEquals(1, modelManager.getHistoryUsage().undoStepsInMemory());
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getEmployeeList().isEmpty());
+    }
+
+    @Test
+    public void setAddressBook_largeAddressBook_isNotCountedInFull() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxBytes(10_000);
+        ModelManager model = new ModelManager(new AddressBook(), userPrefs);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 500; i++) {
+            addressBook.addPerson(new EmployeeBuilder(ALICE).withEmployeeId("id" + i).build());
+        }
+
+        model.commitChanges();
+        model.setAddressBook(addressBook);
+        model.commitChanges();
+        model.addEmployee(BENSON);
+
+        // the snapshots share their employees, so replacing the address book does not push steps to disk
+        assertEquals(0, model.getHistoryUsage().undoStepsOnDisk());
+        assertTrue(model.getHistoryUsage().memoryBytes() < 10_000);
+    }
+
+    @Test
+    public void getAddressBookVersion_increasesOnEveryChange() throws Exception {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.commitChanges();
+        modelManager.addEmployee(ALICE);
+        assertTrue(modelManager.getAddressBookVersion() > version);
+
+        version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBookVersion() > version);
+    }
+
+    @Test
+    public void commitChanges_withoutChanges_doesNotAddSteps() throws Exception {
+        modelManager.commitChanges();
+        modelManager.commitChanges();
+        modelManager.addEmployee(ALICE);
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasEmployee(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void setEmployee_reminderList_onlyEditedRemindersChange() {
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(), fixedClockOn(today));
+        Employee first = new EmployeeBuilder().withEmployeeId("a")
+                .withAnniversary(today.minusYears(10).toString(), "Birthday", "Birthday", "Birthday").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("b")
+                .withAnniversary(today.plusDays(1).minusYears(10).toString(), "Birthday", "Birthday", "Birthday")
+                .build();
+        modelManager.addEmployee(second);
+        modelManager.addEmployee(first);
+
+        ObservableList<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(List.of(first, second), reminders.stream().map(Reminder::getEmployee).toList());
+
+        List<Reminder> removed = new ArrayList<>();
+        List<Reminder> added = new ArrayList<>();
+        reminders.addListener((ListChangeListener<Reminder>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        Employee editedSecond = new EmployeeBuilder(second).withPhone("99999999").build();
+        modelManager.setEmployee(second, editedSecond);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+        assertEquals(List.of(first, editedSecond), reminders.stream().map(Reminder::getEmployee).toList());
+
+        modelManager.deleteEmployee(first);
+        assertEquals(List.of(editedSecond), reminders.stream().map(Reminder::getEmployee).toList());
+    }
+
+    @Test
+    public void rollOverToDate_advancesTodayAndDaysLeft() {
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(), fixedClockOn(today));
+        assertEquals(today, modelManager.getToday());
+
+        modelManager.addEmployee(new EmployeeBuilder().withEmployeeId("a")
+                .withAnniversary("2000-03-12", "Birthday", "Birthday", "Birthday").build());
+        modelManager.updateReminderList();
+        assertEquals(2, modelManager.getReminderList().get(0).getDaysLeft());
+
+        modelManager.rollOverToDate(today.plusDays(1));
+        assertEquals(today.plusDays(1), modelManager.getToday());
+        assertEquals(1, modelManager.getReminderList().get(0).getDaysLeft());
+
+        // the clock has not moved, so refreshing goes back to its date
+        modelManager.refreshToday();
+        assertEquals(today, modelManager.getToday());
+    }
+
+    @Test
+    public void setEmployeeListSortedByUpcomingDate_staysOrderedAcrossChanges() {
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(), fixedClockOn(today));
+        Employee first = new EmployeeBuilder().withEmployeeId("a")
+                .withAnniversary("2000-03-10", "Birthday", "Birthday", "Birthday").build();
+        Employee second = new EmployeeBuilder().withEmployeeId("b")
+                .withAnniversary("2000-03-20", "Birthday", "Birthday", "Birthday").build();
+        modelManager.addEmployee(second);
+        modelManager.addEmployee(first);
+        assertEquals(List.of(second, first), modelManager.getFilteredEmployeeList());
+        modelManager.setEmployeeListSortedByUpcomingDate(true);
+        assertEquals(List.of(first, second), modelManager.getFilteredEmployeeList());
+
+        Employee movedSecond = new EmployeeBuilder().withEmployeeId("b")
+                .withAnniversary("2000-03-05", "Birthday", "Birthday", "Birthday").build();
+        modelManager.setEmployee(second, movedSecond);
+        assertEquals(List.of(first, movedSecond), modelManager.getFilteredEmployeeList());
+
+        // the first employee's date has passed, so it comes round again next year
+        modelManager.rollOverToDate(today.plusDays(1));
+        assertEquals(List.of(movedSecond, first), modelManager.getFilteredEmployeeList());
+
+        // filtering keeps the order, and unsorting goes back to address book order
+        modelManager.updateFilteredEmployeeList(employee -> employee.equals(first));
+        assertEquals(List.of(first), modelManager.getFilteredEmployeeList());
+        modelManager.updateFilteredEmployeeList(Model.PREDICATE_SHOW_ALL_EMPLOYEES);
+        modelManager.setEmployeeListSortedByUpcomingDate(false);
+        assertEquals(List.of(movedSecond, first), modelManager.getFilteredEmployeeList());
+    }
+
     @Test
     public void getFilteredEmployeeList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEmployeeList().remove(0));
@@ -129,4 +399,8 @@ public class ModelManagerTest {
         differentUserPrefs.setHreersDatafilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    private static Clock fixedClockOn(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
 }
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setHreersDatafilePath(null));
     }
 
+    @Test
+    public void setHreersDatafileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setHreersDatafileFormat(null));
+    }
+
+    @Test
+    public void setLastHreersDatafileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setLastHreersDatafileFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryBudget_invalidBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMaxEntries(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMaxBytes(-1));
+    }
+
 }
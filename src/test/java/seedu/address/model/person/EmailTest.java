@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -13,6 +14,12 @@ public class EmailTest {
         assertThrows(NullPointerException.class, () -> new Email(null));
     }
 
+    @Test
+    public void ofValidated() {
+        assertThrows(NullPointerException.class, () -> Email.ofValidated(null));
+        assertEquals(new Email("alice@example.com"), Email.ofValidated("alice@example.com"));
+    }
+
     @Test
     public void constructor_invalidEmail_throwsIllegalArgumentException() {
         String invalidEmail = "";
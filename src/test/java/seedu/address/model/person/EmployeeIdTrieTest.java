@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeIdTrieTest {
+
+    private static final Employee ABC = new EmployeeBuilder().withEmployeeId("abc").build();
+    private static final Employee ABD = new EmployeeBuilder().withEmployeeId("abd").build();
+    private static final Employee ABDE = new EmployeeBuilder().withEmployeeId("abde").build();
+    private static final Employee XYZ = new EmployeeBuilder().withEmployeeId("xyz").build();
+
+    private final EmployeeIdTrie trie = new EmployeeIdTrie();
+
+    @Test
+    public void get_afterAdd_returnsEmployee() {
+        trie.add(ABC, 0);
+        trie.add(ABD, 0);
+        assertSame(ABC, trie.get("abc"));
+        assertSame(ABD, trie.get("abd"));
+        assertNull(trie.get("ab"));
+        assertNull(trie.get("abcd"));
+    }
+
+    @Test
+    public void getWithPrefix_multipleMatches_returnsAllInIdOrder() {
+        trie.add(XYZ, 0);
+        trie.add(ABDE, 0);
+        trie.add(ABC, 0);
+        trie.add(ABD, 0);
+        assertEquals(List.of(ABC, ABD, ABDE), trie.getWithPrefix("ab"));
+        assertEquals(List.of(ABD, ABDE), trie.getWithPrefix("abd"));
+        assertEquals(List.of(ABC, ABD, ABDE, XYZ), trie.getWithPrefix(""));
+        assertTrue(trie.getWithPrefix("q").isEmpty());
+        assertTrue(trie.getWithPrefix("abcd").isEmpty());
+    }
+
+    @Test
+    public void countWithPrefix_prefixEndsInsideEdge_countsSubtree() {
+        trie.add(ABC, 0);
+        trie.add(ABD, 0);
+        assertEquals(2, trie.countWithPrefix("a"));
+        assertEquals(1, trie.countWithPrefix("abc"));
+        assertEquals(0, trie.countWithPrefix("b"));
+    }
+
+    @Test
+    public void getUniqueWithPrefix() {
+        trie.add(ABC, 0);
+        trie.add(ABD, 0);
+        assertEquals(Optional.of(ABC), trie.getUniqueWithPrefix("abc"));
+        assertEquals(Optional.empty(), trie.getUniqueWithPrefix("ab"));
+        assertEquals(Optional.empty(), trie.getUniqueWithPrefix("z"));
+    }
+
+    @Test
+    public void remove_existingEmployee_prunesAndKeepsOthers() {
+        trie.add(ABC, 0);
+        trie.add(ABD, 0);
+        trie.add(ABDE, 0);
+        assertSame(ABD, trie.remove("abd"));
+        assertNull(trie.get("abd"));
+        assertEquals(List.of(ABC, ABDE), trie.getWithPrefix("ab"));
+
+        assertSame(ABC, trie.remove("abc"));
+        assertEquals(List.of(ABDE), trie.getWithPrefix("a"));
+        assertEquals(Optional.of(ABDE), trie.getUniqueWithPrefix("ab"));
+    }
+
+    @Test
+    public void remove_missingEmployee_returnsNull() {
+        trie.add(ABC, 0);
+        assertNull(trie.remove("ab"));
+        assertNull(trie.remove("abcd"));
+        assertEquals(1, trie.countWithPrefix(""));
+    }
+
+    @Test
+    public void hasPrefixConflict() {
+        trie.add(ABC, 0);
+        trie.add(XYZ, 0);
+
+        // existing ID is a prefix of the key
+        assertTrue(trie.hasPrefixConflict("abcd", null));
+        // key is a prefix of an existing ID
+        assertTrue(trie.hasPrefixConflict("ab", null));
+        // key equals an existing ID
+        assertTrue(trie.hasPrefixConflict("abc", null));
+        // unrelated key
+        assertFalse(trie.hasPrefixConflict("abd", null));
+        assertFalse(trie.hasPrefixConflict("b", null));
+    }
+
+    @Test
+    public void hasPrefixConflict_ignoredKey_skipsIgnoredEmployee() {
+        trie.add(ABC, 0);
+        trie.add(ABDE, 0);
+        assertFalse(trie.hasPrefixConflict("abcd", "abc"));
+        assertTrue(trie.hasPrefixConflict("ab", "abc"));
+        assertFalse(trie.hasPrefixConflict("abd", "abde"));
+        assertTrue(trie.hasPrefixConflict("abd", "abc"));
+    }
+
+    @Test
+    public void getConflictingPairCount_tracksAddsAndRemoves() {
+        Employee a = new EmployeeBuilder().withEmployeeId("a").build();
+        trie.add(ABC, 0);
+        trie.add(XYZ, 0);
+        assertEquals(0, trie.getConflictingPairCount());
+
+        trie.add(ABDE, 0);
+        trie.add(a, 0);
+        // (a, abc) and (a, abde)
+        assertEquals(2, trie.getConflictingPairCount());
+
+        trie.add(ABD, 0);
+        // plus (a, abd) and (abd, abde)
+        assertEquals(4, trie.getConflictingPairCount());
+
+        trie.remove("a");
+        assertEquals(1, trie.getConflictingPairCount());
+        trie.remove("abde");
+        assertEquals(0, trie.getConflictingPairCount());
+    }
+
+    @Test
+    public void getOrderKey_returnsKeyStoredWithEmployee() {
+        trie.add(ABC, 7);
+        trie.add(ABDE, -3);
+        assertEquals(7, trie.getOrderKey("abc"));
+        assertEquals(-3, trie.getOrderKey("abde"));
+    }
+
+    @Test
+    public void copy_laterChanges_doNotAffectEachOther() {
+        trie.add(ABC, 0);
+        trie.add(ABDE, 1);
+        EmployeeIdTrie copy = new EmployeeIdTrie(trie);
+
+        trie.remove("abc");
+        copy.add(ABD, 2);
+        assertEquals(List.of(ABDE), trie.getWithPrefix(""));
+        assertEquals(0, trie.getConflictingPairCount());
+        assertEquals(List.of(ABC, ABD, ABDE), copy.getWithPrefix(""));
+        assertEquals(1, copy.getConflictingPairCount());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeSequenceTest {
+
+    @Test
+    public void put_outOfOrderKeys_keepsKeyOrder() {
+        EmployeeSequence sequence = new EmployeeSequence();
+        List<Employee> employees = employees(100);
+        // Insert in a scrambled order so that the tree has to rebalance both ways
+        for (int i = 0; i < 100; i++) {
+            int position = (i * 37) % 100;
+            sequence.put(position * 10L, employees.get(position));
+        }
+
+        assertEquals(employees, sequence.asList());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(employees.get(i), sequence.get(i));
+            assertEquals(i * 10L, sequence.getKey(i));
+            assertEquals(i, sequence.indexOfKey(i * 10L));
+        }
+        assertEquals(-1, sequence.indexOfKey(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> sequence.get(100));
+    }
+
+    @Test
+    public void remove_keepsRemainingEmployeesInOrder() {
+        List<Employee> employees = employees(50);
+        EmployeeSequence sequence = EmployeeSequence.of(employees, 1);
+        List<Employee> expected = new ArrayList<>(employees);
+        for (int i = 0; i < 50; i += 3) {
+            sequence.remove(i);
+            expected.remove(employees.get(i));
+        }
+        sequence.remove(1000);
+
+        assertEquals(expected, sequence.asList());
+        List<Employee> iterated = new ArrayList<>();
+        sequence.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    public void copy_laterChanges_doNotAffectEachOther() {
+        List<Employee> employees = employees(3);
+        EmployeeSequence sequence = EmployeeSequence.of(employees, 10);
+        EmployeeSequence copy = new EmployeeSequence(sequence);
+        List<Employee> snapshot = sequence.asList();
+
+        sequence.remove(0);
+        copy.put(10, employees.get(0));
+
+        assertEquals(List.of(employees.get(1), employees.get(2)), sequence.asList());
+        assertEquals(List.of(employees.get(0), employees.get(0), employees.get(2)), copy.asList());
+        assertEquals(employees, snapshot);
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(new EmployeeBuilder().withEmployeeId(String.format("e%03d", i)).build());
+        }
+        return employees;
+    }
+}
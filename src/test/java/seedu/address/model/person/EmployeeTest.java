@@ -97,27 +97,40 @@ public class EmployeeTest {
     @Test
     public void getNextUpcomingDate_noAnniversaries_returnsNull() {
         Employee employee = new EmployeeBuilder().withBirthdayAndWorkAnniversary(null, null).build();
-        assertNull(employee.getNextUpcomingDate());
+        assertNull(employee.getNextUpcomingDate(LocalDate.of(2025, 6, 1)));
     }
 
     @Test
     public void getNextUpcomingDate_singleFutureBirthday_returnsDate() {
-        LocalDate futureBirthday = LocalDate.now().plusDays(10);
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        LocalDate futureBirthday = today.plusDays(10);
         Employee employee = new EmployeeBuilder()
                 .withBirthdayAndWorkAnniversary(futureBirthday, null)
                 .build();
 
-        assertEquals(futureBirthday, employee.getNextUpcomingDate());
+        assertEquals(futureBirthday, employee.getNextUpcomingDate(today));
     }
 
     @Test
     public void getNextUpcomingDate_pastBirthday_rollsToNextYear() {
-        LocalDate pastBirthday = LocalDate.now().minusDays(10);
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        LocalDate pastBirthday = today.minusDays(10);
         Employee employee = new EmployeeBuilder()
                 .withBirthdayAndWorkAnniversary(pastBirthday, null)
                 .build();
 
         LocalDate expectedDate = pastBirthday.plusYears(1);
-        assertEquals(expectedDate, employee.getNextUpcomingDate());
+        assertEquals(expectedDate, employee.getNextUpcomingDate(today));
+    }
+
+    @Test
+    public void getNextUpcomingDate_givenToday_countsFromGivenDate() {
+        Employee employee = new EmployeeBuilder()
+                .withBirthdayAndWorkAnniversary(LocalDate.of(1990, 5, 1), LocalDate.of(2015, 8, 20))
+                .build();
+
+        assertEquals(LocalDate.of(2026, 5, 1), employee.getNextUpcomingDate(LocalDate.of(2026, 1, 1)));
+        assertEquals(LocalDate.of(2026, 8, 20), employee.getNextUpcomingDate(LocalDate.of(2026, 5, 2)));
+        assertEquals(LocalDate.of(2027, 5, 1), employee.getNextUpcomingDate(LocalDate.of(2026, 8, 21)));
     }
 }
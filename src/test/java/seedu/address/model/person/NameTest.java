@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -13,6 +14,12 @@ public class NameTest {
         assertThrows(NullPointerException.class, () -> new Name(null));
     }
 
+    @Test
+    public void ofValidated() {
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+        assertEquals(new Name("Alice Pauline"), Name.ofValidated("Alice Pauline"));
+    }
+
     @Test
     public void constructor_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +50,15 @@ public class UniqueEmployeeListTest {
         assertTrue(uniqueEmployeeList.contains(editedAlice));
     }
 
+    @Test
+    public void getEmployee_exactEmployeeIdOnly_returnsEmployee() {
+        Employee employee = new EmployeeBuilder(ALICE).withEmployeeId("abc").build();
+        uniqueEmployeeList.add(employee);
+        assertEquals(Optional.of(employee), uniqueEmployeeList.getEmployee(EmployeeId.fromString("abc")));
+        assertEquals(Optional.empty(), uniqueEmployeeList.getEmployee(EmployeeId.fromString("ab")));
+        assertEquals(Optional.empty(), uniqueEmployeeList.getEmployee(EmployeeId.fromString("abcd")));
+    }
+
     @Test
     public void add_nullEmployee_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEmployeeList.add(null));
@@ -164,6 +175,97 @@ public class UniqueEmployeeListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.setPersons(listWithDuplicateEmployees));
     }
 
+    @Test
+    public void setEmployee_afterRemovingEarlierEmployee_replacesCorrectPosition() {
+        Employee carl = new EmployeeBuilder().withEmployeeId("carl").build();
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(BOB);
+        uniqueEmployeeList.add(carl);
+        uniqueEmployeeList.remove(ALICE);
+        Employee editedCarl = new EmployeeBuilder(carl).withJobPosition(VALID_JOBPOSITION_BOB).build();
+        uniqueEmployeeList.setPerson(carl, editedCarl);
+        assertEquals(List.of(BOB, editedCarl), uniqueEmployeeList.asUnmodifiableObservableList());
+        assertTrue(uniqueEmployeeList.contains(editedCarl));
+        assertFalse(uniqueEmployeeList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_equalIdentityButDifferentDetails_throwsEmployeeNotFoundException() {
+        uniqueEmployeeList.add(ALICE);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withJobPosition(VALID_JOBPOSITION_BOB).build();
+        assertThrows(EmployeeNotFoundException.class, () -> uniqueEmployeeList.remove(editedAlice));
+    }
+
+    @Test
+    public void getEmployeesWithEmployeeIdPrefix_afterSetEmployee_reflectsNewId() {
+        uniqueEmployeeList.add(ALICE);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withEmployeeId("abc").build();
+        uniqueEmployeeList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice),
+                uniqueEmployeeList.getEmployeesWithEmployeeIdPrefix(EmployeeId.fromString("ab")));
+        assertTrue(uniqueEmployeeList.getEmployeesWithEmployeeIdPrefix(ALICE.getEmployeeId()).isEmpty());
+    }
+
+    @Test
+    public void hasEmployeeIdPrefixConflict_afterRemove_returnsFalse() {
+        Employee employee = new EmployeeBuilder().withEmployeeId("abc").build();
+        uniqueEmployeeList.add(employee);
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflict(EmployeeId.fromString("abcd")));
+        assertFalse(uniqueEmployeeList.hasEmployeeIdPrefixConflictIgnoringSpecific(
+                EmployeeId.fromString("abcd"), EmployeeId.fromString("abc")));
+        uniqueEmployeeList.remove(employee);
+        assertFalse(uniqueEmployeeList.hasEmployeeIdPrefixConflict(EmployeeId.fromString("abcd")));
+    }
+
+    @Test
+    public void countEmployeesWithEmployeeIdPrefix_afterSetEmployees_countsNewContents() {
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.setPersons(List.of(BOB));
+        assertEquals(0, uniqueEmployeeList.countEmployeesWithEmployeeIdPrefix(ALICE.getEmployeeId()));
+        assertEquals(1, uniqueEmployeeList.countEmployeesWithEmployeeIdPrefix(BOB.getEmployeeId()));
+        assertEquals(Optional.of(BOB),
+                uniqueEmployeeList.getUniqueEmployeeWithEmployeeIdPrefix(BOB.getEmployeeId()));
+    }
+
+    @Test
+    public void add_atIndex_insertsAndKeepsPositions() {
+        Employee carl = new EmployeeBuilder().withEmployeeId("carl").build();
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(0, BOB);
+        uniqueEmployeeList.add(1, carl);
+        assertEquals(List.of(BOB, carl, ALICE), uniqueEmployeeList.asUnmodifiableObservableList());
+        assertEquals(1, uniqueEmployeeList.indexOf(carl));
+        assertEquals(2, uniqueEmployeeList.indexOf(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.add(0, ALICE));
+    }
+
+    @Test
+    public void add_repeatedlyAtSameIndex_keepsOrder() {
+        // Inserting between the same two neighbours eventually uses up the gap between their order keys
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(BOB);
+        List<Employee> expected = new ArrayList<>(List.of(ALICE, BOB));
+        for (int i = 0; i < 30; i++) {
+            Employee employee = new EmployeeBuilder().withEmployeeId("e" + i).build();
+            uniqueEmployeeList.add(1, employee);
+            expected.add(1, employee);
+        }
+        assertEquals(expected, uniqueEmployeeList.asUnmodifiableObservableList());
+        assertEquals(31, uniqueEmployeeList.indexOf(BOB));
+    }
+
+    @Test
+    public void setEmployees_uniqueEmployeeList_laterChangesDoNotAffectEachOther() {
+        uniqueEmployeeList.add(ALICE);
+        UniqueEmployeeList copy = new UniqueEmployeeList();
+        copy.setPersons(uniqueEmployeeList);
+
+        copy.add(BOB);
+        uniqueEmployeeList.remove(ALICE);
+        assertEquals(List.of(ALICE, BOB), copy.asUnmodifiableObservableList());
+        assertTrue(uniqueEmployeeList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EmployeeBuilder;
+
+public class UpcomingDateComparatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private final UpcomingDateComparator comparator = new UpcomingDateComparator(TODAY);
+
+    @Test
+    public void getKey_returnsEpochDayOfNextUpcomingDate() {
+        Employee employee = employeeWith("a", "2000-03-01");
+        assertEquals(LocalDate.of(2027, 3, 1).toEpochDay(), comparator.getKey(employee));
+        assertEquals(Long.MAX_VALUE, comparator.getKey(new EmployeeBuilder().withEmployeeId("b").build()));
+    }
+
+    @Test
+    public void compare_sameDate_ordersByEmployeeId() {
+        Employee first = employeeWith("a", "2000-04-01");
+        Employee second = employeeWith("b", "1990-04-01");
+        assertTrue(comparator.compare(first, second) < 0);
+        assertTrue(comparator.compare(second, first) > 0);
+        assertTrue(comparator.compare(employeeWith("c", "2000-03-11"), first) < 0);
+    }
+
+    @Test
+    public void forget_anniversariesChangedInPlace_recomputesKey() {
+        Employee employee = employeeWith("a", "2000-04-01");
+        assertEquals(LocalDate.of(2026, 4, 1).toEpochDay(), comparator.getKey(employee));
+
+        employee.getAnniversaries().clear();
+        assertEquals(LocalDate.of(2026, 4, 1).toEpochDay(), comparator.getKey(employee));
+        comparator.forget(employee);
+        assertEquals(Long.MAX_VALUE, comparator.getKey(employee));
+    }
+
+    private static Employee employeeWith(String employeeId, String date) {
+        return new EmployeeBuilder().withEmployeeId(employeeId)
+                .withAnniversary(date, "Birthday", "Birthday", "Birthday").build();
+    }
+}
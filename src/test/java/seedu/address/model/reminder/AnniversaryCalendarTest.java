@@ -0,0 +1,79 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class AnniversaryCalendarTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 26);
+
+    private final AnniversaryCalendar calendar = new AnniversaryCalendar();
+
+    @Test
+    public void getNextOccurrence() {
+        // already passed this year -> next year
+        assertEquals(LocalDate.of(2027, 1, 1), nextOccurrence(LocalDate.of(1990, 1, 1)));
+        // today -> today
+        assertEquals(TODAY, nextOccurrence(LocalDate.of(1990, 2, 26)));
+        // original date in the future -> unchanged
+        assertEquals(LocalDate.of(2030, 1, 1), nextOccurrence(LocalDate.of(2030, 1, 1)));
+        // leap day in a common year -> Feb 28
+        assertEquals(LocalDate.of(2026, 2, 28), nextOccurrence(LocalDate.of(2000, 2, 29)));
+        assertNull(nextOccurrence(null));
+    }
+
+    @Test
+    public void forEachOccurrenceOf_matchesCalendarQuery() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 3, 1), LocalDate.of(2000, 2, 29),
+                LocalDate.of(1990, 3, 2));
+        calendar.add(employee);
+
+        List<LocalDate> dates = new ArrayList<>();
+        AnniversaryCalendar.forEachOccurrenceOf(employee, TODAY, TODAY.plusDays(3), (e, anniversary, date) ->
+                dates.add(date));
+        dates.sort(null);
+        assertEquals(List.of(LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 1)), dates);
+
+        List<LocalDate> calendarDates = new ArrayList<>();
+        calendar.forEachOccurrenceBetween(TODAY, TODAY.plusDays(3), (e, anniversary, date) ->
+                calendarDates.add(date));
+        assertEquals(calendarDates, dates);
+    }
+
+    @Test
+    public void forEachOccurrenceBetween_windowLongerThanAYear_includesEveryOccurrence() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 3, 1));
+        calendar.add(employee);
+
+        List<LocalDate> dates = new ArrayList<>();
+        calendar.forEachOccurrenceBetween(LocalDate.of(2026, 3, 1), LocalDate.of(2027, 3, 1),
+                (e, anniversary, date) -> dates.add(date));
+        assertEquals(List.of(LocalDate.of(2026, 3, 1), LocalDate.of(2027, 3, 1)), dates);
+
+        List<LocalDate> employeeDates = new ArrayList<>();
+        AnniversaryCalendar.forEachOccurrenceOf(employee, LocalDate.of(2026, 3, 1), LocalDate.of(2027, 3, 1),
+                (e, anniversary, date) -> employeeDates.add(date));
+        assertEquals(dates, employeeDates);
+    }
+
+    private static LocalDate nextOccurrence(LocalDate date) {
+        return AnniversaryCalendar.getNextOccurrence(date, TODAY);
+    }
+
+    private static Employee employeeWith(String employeeId, LocalDate... anniversaryDates) {
+        EmployeeBuilder builder = new EmployeeBuilder().withEmployeeId(employeeId);
+        for (LocalDate date : anniversaryDates) {
+            builder.withAnniversary(date.toString(), "Birthday", "Birthday", "Birthday");
+        }
+        return builder.build();
+    }
+}
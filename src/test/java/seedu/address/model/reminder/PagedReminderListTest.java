@@ -0,0 +1,211 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class PagedReminderListTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2027, 1, 31);
+    /** A day shortly before Feb 28 of a common year. */
+    private static final LocalDate LEAP_TODAY = LocalDate.of(2026, 2, 26);
+
+    private final AnniversaryCalendar calendar = new AnniversaryCalendar();
+    private final PagedReminderList reminders = new PagedReminderList(calendar);
+
+    @Test
+    public void setWindow_matchesCalendarQuery() {
+        calendar.add(employeeWith("a", LocalDate.of(1990, 1, 15), LocalDate.of(2020, 12, 25)));
+        calendar.add(employeeWith("b", LocalDate.of(1985, 12, 1)));
+        calendar.add(employeeWith("c", LocalDate.of(1985, 6, 1)));
+
+        reminders.setWindow(FROM, TO, FROM);
+        List<LocalDate> dates = new ArrayList<>();
+        calendar.forEachOccurrenceBetween(FROM, TO, (employee, anniversary, date) -> dates.add(date));
+        assertEquals(dates, reminders.stream().map(Reminder::getDate).toList());
+        assertEquals(List.of(LocalDate.of(2026, 12, 1), LocalDate.of(2026, 12, 25), LocalDate.of(2027, 1, 15)),
+                dates);
+    }
+
+    @Test
+    public void setWindow_anniversariesInAndOutOfRange_containsOnlyInRangeChronologically() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 2, 28), LocalDate.of(2020, 2, 26));
+        Employee other = employeeWith("b", LocalDate.of(1985, 3, 10));
+        calendar.add(employee);
+        calendar.add(other);
+
+        reminders.setWindow(LEAP_TODAY, LEAP_TODAY.plusDays(3), LEAP_TODAY);
+        assertEquals(2, reminders.size());
+        assertEquals(LEAP_TODAY, reminders.get(0).getDate());
+        assertEquals(LocalDate.of(2026, 2, 28), reminders.get(1).getDate());
+        assertEquals(2, reminders.get(1).getDaysLeft());
+        assertSame(employee, reminders.get(1).getEmployee());
+    }
+
+    @Test
+    public void setWindow_leapDayAnniversaryInCommonYear_remindedOnceOnFeb28() {
+        calendar.add(employeeWith("a", LocalDate.of(2000, 2, 29), LocalDate.of(2010, 2, 28)));
+
+        reminders.setWindow(LEAP_TODAY, LEAP_TODAY.plusDays(3), LEAP_TODAY);
+        assertEquals(2, reminders.size());
+        assertTrue(reminders.stream().allMatch(reminder -> reminder.getDate().equals(LocalDate.of(2026, 2, 28))));
+    }
+
+    @Test
+    public void setWindow_employeeRemovedFromCalendar_notReminded() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 2, 27));
+        calendar.add(employee);
+        calendar.remove(employee);
+
+        reminders.setWindow(LEAP_TODAY, LEAP_TODAY.plusDays(3), LEAP_TODAY);
+        assertTrue(reminders.isEmpty());
+    }
+
+    @Test
+    public void setWindow_calendarEmployeesReplaced_remindsNewEmployees() {
+        Employee other = employeeWith("b", LocalDate.of(1990, 2, 27));
+        calendar.add(employeeWith("a", LocalDate.of(1990, 2, 27)));
+        calendar.setEmployees(List.of(other));
+
+        reminders.setWindow(LEAP_TODAY, LEAP_TODAY.plusDays(3), LEAP_TODAY);
+        assertEquals(1, reminders.size());
+        assertSame(other, reminders.get(0).getEmployee());
+    }
+
+    @Test
+    public void get_manyReminders_materializesAcrossPages() {
+        for (int i = 0; i < 200; i++) {
+            calendar.add(employeeWith(String.format("e%03d", i), LocalDate.of(1990, 12, 10)));
+        }
+        reminders.setWindow(FROM, TO, FROM);
+
+        assertEquals(200, reminders.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(String.format("e%03d", i), reminders.get(i).getEmployee().getEmployeeId().value);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> reminders.get(200));
+    }
+
+    @Test
+    public void replaceEmployee_reportsOnlyAffectedPositions() {
+        Employee first = employeeWith("a", LocalDate.of(1990, 12, 5));
+        Employee second = employeeWith("b", LocalDate.of(1990, 12, 20));
+        calendar.add(first);
+        calendar.add(second);
+        reminders.setWindow(FROM, TO, FROM);
+
+        List<Integer> removedAt = new ArrayList<>();
+        List<Integer> addedAt = new ArrayList<>();
+        reminders.addListener((ListChangeListener<Reminder>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    removedAt.add(change.getFrom());
+                }
+                if (change.wasAdded()) {
+                    addedAt.add(change.getFrom());
+                }
+            }
+        });
+
+        Employee movedFirst = employeeWith("a", LocalDate.of(1990, 12, 31));
+        calendar.remove(first);
+        calendar.add(movedFirst);
+        reminders.replaceEmployee(first, movedFirst);
+
+        assertEquals(List.of(0), removedAt);
+        assertEquals(List.of(1), addedAt);
+        assertSame(second, reminders.get(0).getEmployee());
+        assertSame(movedFirst, reminders.get(1).getEmployee());
+        assertEquals(LocalDate.of(2026, 12, 31), reminders.get(1).getDate());
+
+        calendar.remove(second);
+        reminders.replaceEmployee(second, null);
+        assertEquals(1, reminders.size());
+        assertSame(movedFirst, reminders.get(0).getEmployee());
+    }
+
+    @Test
+    public void advanceTo_movingWindow_shiftsWindowAndDaysLeft() {
+        Employee passed = employeeWith("a", LocalDate.of(1990, 12, 1));
+        Employee kept = employeeWith("b", LocalDate.of(1990, 12, 3));
+        Employee newlyCovered = employeeWith("c", LocalDate.of(1990, 12, 5));
+        calendar.add(passed);
+        calendar.add(kept);
+        calendar.add(newlyCovered);
+        reminders.setWindow(FROM, FROM.plusDays(3), FROM);
+        assertEquals(2, reminders.size());
+        assertEquals(2, reminders.get(1).getDaysLeft());
+
+        reminders.advanceTo(FROM.plusDays(1), true);
+        assertEquals(FROM.plusDays(1), reminders.getFrom());
+        assertEquals(FROM.plusDays(4), reminders.getTo());
+        assertEquals(2, reminders.size());
+        assertSame(kept, reminders.get(0).getEmployee());
+        assertEquals(1, reminders.get(0).getDaysLeft());
+        assertSame(newlyCovered, reminders.get(1).getEmployee());
+        assertEquals(3, reminders.get(1).getDaysLeft());
+    }
+
+    @Test
+    public void advanceTo_fixedWindow_onlyUpdatesDaysLeft() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 12, 10));
+        calendar.add(employee);
+        reminders.setWindow(FROM, TO, FROM);
+        assertEquals(9, reminders.get(0).getDaysLeft());
+
+        reminders.advanceTo(FROM.plusDays(2), false);
+        assertEquals(FROM, reminders.getFrom());
+        assertEquals(1, reminders.size());
+        assertEquals(7, reminders.get(0).getDaysLeft());
+    }
+
+    @Test
+    public void advanceTo_reportsWholeWindowReplacedWithOldDaysLeft() {
+        calendar.add(employeeWith("a", LocalDate.of(1990, 12, 3)));
+        calendar.add(employeeWith("b", LocalDate.of(1990, 12, 10)));
+        reminders.setWindow(FROM, TO, FROM);
+
+        List<Long> removedDaysLeft = new ArrayList<>();
+        List<Integer> addedSizes = new ArrayList<>();
+        reminders.addListener((ListChangeListener<Reminder>) change -> {
+            while (change.next()) {
+                assertEquals(0, change.getFrom());
+                change.getRemoved().forEach(reminder -> removedDaysLeft.add(reminder.getDaysLeft()));
+                addedSizes.add(change.getAddedSize());
+            }
+        });
+
+        reminders.advanceTo(FROM.plusDays(5), true);
+        assertEquals(List.of(2L, 9L), removedDaysLeft);
+        assertEquals(List.of(1), addedSizes);
+        assertEquals(4, reminders.get(0).getDaysLeft());
+    }
+
+    @Test
+    public void replaceEmployee_noWindow_doesNothing() {
+        Employee employee = employeeWith("a", LocalDate.of(1990, 12, 5));
+        calendar.add(employee);
+        reminders.replaceEmployee(null, employee);
+        assertTrue(reminders.isEmpty());
+    }
+
+    private static Employee employeeWith(String employeeId, LocalDate... anniversaryDates) {
+        EmployeeBuilder builder = new EmployeeBuilder().withEmployeeId(employeeId);
+        for (LocalDate date : anniversaryDates) {
+            builder.withAnniversary(date.toString(), "Birthday", "Birthday", "Birthday");
+        }
+        return builder.build();
+    }
+}
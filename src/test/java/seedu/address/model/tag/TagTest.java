@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,12 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> new Tag(null));
     }
 
+    @Test
+    public void ofValidated() {
+        assertThrows(NullPointerException.class, () -> Tag.ofValidated(null));
+        assertEquals(new Tag("friends"), Tag.ofValidated("friends"));
+    }
+
     @Test
     public void constructor_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
@@ -0,0 +1,40 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeBinaryCodecTest {
+
+    @Test
+    public void read_writtenEmployee_returnsEqualEmployee() throws IOException {
+        Employee employee = new EmployeeBuilder(ALICE).withTags("friends", "owesMoney").build();
+        employee.getAnniversaries().add(new Anniversary(null, null, null, "Unnamed"));
+
+        Employee readBack = roundTrip(employee);
+
+        assertEquals(employee, readBack);
+        assertEquals(employee.getAnniversaries(), readBack.getAnniversaries());
+    }
+
+    private static Employee roundTrip(Employee employee) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            EmployeeBinaryCodec.write(out, employee);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return EmployeeBinaryCodec.read(in);
+        }
+    }
+}
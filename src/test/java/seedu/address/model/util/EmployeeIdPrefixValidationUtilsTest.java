@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeIdPrefixValidationUtilsTest {
+
+    @Test
+    public void getPrefixConflictingPairs_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> EmployeeIdPrefixValidationUtils
+                .getPrefixConflictingPairs(null));
+    }
+
+    @Test
+    public void getPrefixConflictingPairs_noConflicts_returnsEmptyList() {
+        List<Employee> employees = employeesWithIds("abc", "abd", "b", "ca");
+        assertTrue(EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(employees).isEmpty());
+    }
+
+    @Test
+    public void getPrefixConflictingPairs_nestedPrefixes_returnsEveryPair() {
+        List<Employee> employees = employeesWithIds("abcd", "x", "ab", "abc", "abd");
+        List<Pair<EmployeeId, EmployeeId>> expected = List.of(
+                pair("ab", "abc"),
+                pair("abc", "abcd"),
+                pair("ab", "abcd"),
+                pair("ab", "abd"));
+        assertEquals(expected, EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(employees));
+    }
+
+    private static List<Employee> employeesWithIds(String... ids) {
+        return Arrays.stream(ids)
+                .map(id -> new EmployeeBuilder().withEmployeeId(id).build())
+                .collect(Collectors.toList());
+    }
+
+    private static Pair<EmployeeId, EmployeeId> pair(String first, String second) {
+        return new Pair<>(EmployeeId.fromString(first), EmployeeId.fromString(second));
+    }
+}
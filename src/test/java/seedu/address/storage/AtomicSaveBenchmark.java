@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures the cost of saving the data file atomically with a checksum line, against overwriting it in place.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class AtomicSaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void atomicSave_comparedWithInPlaceWrite() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path filePath = testFolder.resolve("addressBook" + size + ".json");
+
+            long start = System.nanoTime();
+            byte[] json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)).getBytes(UTF_8);
+            long serializeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Files.write(filePath, json);
+            long inPlaceNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            byte[] fileBytes = DataFileChecksum.withTrailer(json);
+            FileUtil.writeToFileAtomically(filePath, fileBytes);
+            long atomicNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            byte[] content = DataFileChecksum.verifyAndStrip(Files.readAllBytes(filePath));
+            long verifyNanos = System.nanoTime() - start;
+
+            assertEquals(json.length + 1, content.length);
+            System.out.printf("%,d employees (%,d bytes): serialize %d ms, in-place write %d ms, "
+                            + "atomic write with checksum %d ms, read and verify %d ms%n",
+                    size, json.length, serializeNanos / 1_000_000, inPlaceNanos / 1_000_000,
+                    atomicNanos / 1_000_000, verifyNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotPath() {
+        assertEquals(Paths.get("data", "Hreers.bin"), BinaryAddressBookStorage.getSnapshotPath(
+                Paths.get("data", "Hreers.json")));
+        assertEquals(Paths.get("data", "Hreers.bin"), BinaryAddressBookStorage.getSnapshotPath(
+                Paths.get("data", "Hreers")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertSameWithAnniversaries(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSameWithAnniversaries(original, storage.readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+    }
+
+    /**
+     * Asserts that {@code actual} holds the employees of {@code expected}, with the same anniversaries, which
+     * {@code Employee#equals} leaves out.
+     */
+    static void assertSameWithAnniversaries(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getEmployeeList(), actual.getEmployeeList());
+        for (int i = 0; i < expected.getEmployeeList().size(); i++) {
+            assertEquals(expected.getEmployeeList().get(i).getAnniversaries(),
+                    actual.getEmployeeList().get(i).getAnniversaries());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures saving and loading binary snapshots against JSON data files.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class BinarySnapshotBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final String[] JOB_POSITIONS = {"Engineer", "Manager", "Designer", "Analyst", "Intern"};
+    private static final String[] TAGS = {"remote", "fulltime", "parttime", "contractor", "mentor"};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void binarySnapshot_comparedWithJson() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id)
+                        .withJobPosition(JOB_POSITIONS[i % JOB_POSITIONS.length])
+                        .withTags(TAGS[i % TAGS.length]).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+
+            AddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressBook" + size + ".json"));
+            AddressBookStorage binary = new BinaryAddressBookStorage(
+                    testFolder.resolve("addressBook" + size + ".bin"));
+            System.out.printf("%,d employees: JSON %s; binary %s%n",
+                    size, measure(json, addressBook), measure(binary, addressBook));
+        }
+    }
+
+    private static String measure(AddressBookStorage storage, AddressBook addressBook) throws Exception {
+        long start = System.nanoTime();
+        storage.saveAddressBook(addressBook);
+        long saveNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int loaded = storage.readAddressBook().get().getEmployeeList().size();
+        long loadNanos = System.nanoTime() - start;
+
+        assertEquals(addressBook.getEmployeeList().size(), loaded);
+        return String.format("%,d KiB, save %d ms, load %d ms", Files.size(storage.getAddressBookFilePath()) >> 10,
+                saveNanos / 1_000_000, loadNanos / 1_000_000);
+    }
+}
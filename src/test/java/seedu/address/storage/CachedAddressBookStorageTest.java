@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.assertSameWithAnniversaries;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class CachedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_unchangedDataFile_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        storage.saveCache();
+        assertTrue(Files.exists(CachedAddressBookStorage.getCachePath(filePath)));
+
+        CountingStorage counting = new CountingStorage(filePath);
+        assertSameWithAnniversaries(original, new CachedAddressBookStorage(counting).readAddressBook().get());
+        assertEquals(0, counting.readCount);
+    }
+
+    @Test
+    public void readAddressBook_changedDataFile_readFromDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveCache();
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+        CountingStorage counting = new CountingStorage(filePath);
+        assertSameWithAnniversaries(changed, new CachedAddressBookStorage(counting).readAddressBook().get());
+        assertEquals(1, counting.readCount);
+    }
+
+    @Test
+    public void readAddressBook_mappedDataFile_copiedOutOfSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new MappedAddressBookStorage(filePath));
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertFalse(read instanceof MappedAddressBook);
+        assertSameWithAnniversaries(original, read);
+    }
+
+    @Test
+    public void readAddressBook_damagedCache_readFromDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        storage.saveCache();
+
+        Path cachePath = CachedAddressBookStorage.getCachePath(filePath);
+        byte[] bytes = Files.readAllBytes(cachePath);
+        bytes[DataFileFingerprint.LENGTH + (bytes.length - DataFileFingerprint.LENGTH) / 2] ^= 1;
+        Files.write(cachePath, bytes);
+
+        CountingStorage counting = new CountingStorage(filePath);
+        assertSameWithAnniversaries(original, new CachedAddressBookStorage(counting).readAddressBook().get());
+        assertEquals(1, counting.readCount);
+    }
+
+    @Test
+    public void readAddressBook_journaledDataFile_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(
+                new JournaledJsonAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook);
+        addressBook = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.saveCache();
+
+        CountingStorage counting = new CountingStorage(filePath);
+        assertSameWithAnniversaries(addressBook, new CachedAddressBookStorage(counting).readAddressBook().get());
+        assertEquals(0, counting.readCount);
+        assertSameWithAnniversaries(addressBook, new JournaledJsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveCache_failedSave_nothingSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        CachedAddressBookStorage failing = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("Disk full");
+            }
+        });
+
+        assertTrue(failing.readAddressBook().isPresent());
+        assertThrows(IOException.class, () -> failing.saveAddressBook(new AddressBook()));
+        failing.saveCache();
+        assertFalse(Files.exists(CachedAddressBookStorage.getCachePath(filePath)));
+    }
+
+    @Test
+    public void saveCache_missingDataFile_nothingSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CachedAddressBookStorage storage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        assertFalse(storage.readAddressBook().isPresent());
+        storage.saveCache();
+        assertFalse(Files.exists(CachedAddressBookStorage.getCachePath(filePath)));
+    }
+
+    /**
+     * Counts how many times the data file is read.
+     */
+    private static class CountingStorage extends JournaledJsonAddressBookStorage {
+        private int readCount;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            readCount++;
+            return super.readAddressBook(filePath);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class DataFileChecksumTest {
+
+    private static final byte[] CONTENT = "{\n  \"persons\" : [ ]\n}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void verifyAndStrip_withTrailer_returnsContent() throws Exception {
+        byte[] fileBytes = DataFileChecksum.withTrailer(CONTENT);
+        assertTrue(new String(fileBytes, StandardCharsets.UTF_8).contains("// crc32="));
+
+        // a newline is added before the checksum line
+        byte[] expected = (new String(CONTENT, StandardCharsets.UTF_8) + "\n").getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, DataFileChecksum.verifyAndStrip(fileBytes));
+    }
+
+    @Test
+    public void withTrailer_streamedContent_sameAsBytes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataFileChecksum.withTrailer(contentOut -> contentOut.write(CONTENT)).writeTo(out);
+        assertArrayEquals(DataFileChecksum.withTrailer(CONTENT), out.toByteArray());
+    }
+
+    @Test
+    public void verifyAndStrip_noTrailer_returnsInputUnchanged() throws Exception {
+        assertArrayEquals(CONTENT, DataFileChecksum.verifyAndStrip(CONTENT));
+        assertArrayEquals(new byte[0], DataFileChecksum.verifyAndStrip(new byte[0]));
+    }
+
+    @Test
+    public void verifyAndStrip_damagedContent_throwsDataLoadingException() {
+        byte[] fileBytes = DataFileChecksum.withTrailer(CONTENT);
+        fileBytes[3] ^= 1;
+        assertThrows(DataLoadingException.class, () -> DataFileChecksum.verifyAndStrip(fileBytes));
+    }
+
+    @Test
+    public void verifyAndStrip_truncatedContent_throwsDataLoadingException() {
+        byte[] fileBytes = DataFileChecksum.withTrailer(CONTENT);
+        String text = new String(fileBytes, StandardCharsets.UTF_8);
+        byte[] truncated = text.substring(5).getBytes(StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> DataFileChecksum.verifyAndStrip(truncated));
+    }
+}
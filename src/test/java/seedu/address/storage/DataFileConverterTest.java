@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.assertSameWithAnniversaries;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.DataFileFormat;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private AddressBookStorage jsonStorage;
+    private AddressBookStorage binaryStorage;
+    private AddressBookStorage shardedStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("Hreers.json");
+        jsonStorage = DataFileConverter.createStorage(jsonFilePath, DataFileFormat.JSON);
+        binaryStorage = DataFileConverter.createStorage(jsonFilePath, DataFileFormat.BINARY);
+        shardedStorage = DataFileConverter.createStorage(jsonFilePath, DataFileFormat.SHARDED);
+    }
+
+    @Test
+    public void createStorage() {
+        assertTrue(jsonStorage instanceof JournaledJsonAddressBookStorage);
+        assertEquals(testFolder.resolve("Hreers.json"), jsonStorage.getAddressBookFilePath());
+        assertTrue(binaryStorage instanceof BinaryAddressBookStorage);
+        assertEquals(testFolder.resolve("Hreers.bin"), binaryStorage.getAddressBookFilePath());
+        assertTrue(shardedStorage instanceof ShardedAddressBookStorage);
+        assertEquals(testFolder.resolve("Hreers.shards").resolve("manifest.json"),
+                shardedStorage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(DataFileConverter.convert(jsonStorage, binaryStorage));
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        assertTrue(DataFileConverter.convert(binaryStorage, jsonStorage));
+
+        assertSameWithAnniversaries(original, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convert_jsonToShardedAndBack_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(DataFileConverter.convert(jsonStorage, shardedStorage));
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        assertTrue(DataFileConverter.convert(shardedStorage, jsonStorage));
+
+        assertSameWithAnniversaries(original, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(DataFileConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfFormatChanged_formatChanged_lastFormatConverted() throws Exception {
+        AddressBook current = getTypicalAddressBook();
+        current.removePerson(ALICE);
+        jsonStorage.saveAddressBook(current);
+        // left behind by an earlier run in the chosen format, though saved later
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(DataFileConverter.convertIfFormatChanged(jsonFilePath, DataFileFormat.JSON, DataFileFormat.BINARY));
+        assertEquals(current, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // nothing was saved in the last format
+        assertFalse(DataFileConverter.convertIfFormatChanged(jsonFilePath, DataFileFormat.SHARDED,
+                DataFileFormat.JSON));
+        assertEquals(current, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfFormatChanged_formatUnchanged_newerFileInOtherFormatIgnored() throws Exception {
+        AddressBook current = getTypicalAddressBook();
+        current.removePerson(ALICE);
+        binaryStorage.saveAddressBook(current);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        setLastModified(binaryStorage.getAddressBookFilePath(), 1000);
+        setLastModified(jsonStorage.getAddressBookFilePath(), 2000);
+
+        assertFalse(DataFileConverter.convertIfFormatChanged(jsonFilePath, DataFileFormat.BINARY,
+                DataFileFormat.BINARY));
+        assertEquals(current, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfFormatChanged_newerShardFolderLeftBehind_lastFormatConverted() throws Exception {
+        AddressBook current = getTypicalAddressBook();
+        current.removePerson(ALICE);
+        binaryStorage.saveAddressBook(current);
+        shardedStorage.saveAddressBook(getTypicalAddressBook());
+        setLastModified(binaryStorage.getAddressBookFilePath(), 1000);
+        setLastModified(shardedStorage.getAddressBookFilePath(), 2000);
+
+        assertTrue(DataFileConverter.convertIfFormatChanged(jsonFilePath, DataFileFormat.BINARY,
+                DataFileFormat.JSON));
+        assertEquals(current, new AddressBook(jsonStorage.readAddressBook().get()));
+        assertFalse(DataFileConverter.convertIfFormatChanged(jsonFilePath, DataFileFormat.JSON,
+                DataFileFormat.JSON));
+        assertEquals(current, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    private static void setLastModified(Path filePath, long seconds) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(seconds * 1000));
+        Path journalPath = JournaledJsonAddressBookStorage.getJournalPath(filePath);
+        if (Files.exists(journalPath)) {
+            Files.setLastModifiedTime(journalPath, FileTime.fromMillis(seconds * 1000));
+        }
+    }
+}
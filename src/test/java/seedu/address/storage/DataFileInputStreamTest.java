@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class DataFileInputStreamTest {
+
+    private static final byte[] CONTENT = "{\n  \"persons\" : [ ]\n}\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_fileWithTrailer_returnsContentOnly() throws Exception {
+        byte[] fileBytes = DataFileChecksum.withTrailer(CONTENT);
+        Path file = write(fileBytes);
+
+        try (DataFileInputStream in = DataFileInputStream.open(file)) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+            in.verify();
+            assertEquals(fileBytes.length, in.getFileLength());
+            assertEquals(checksumOf(fileBytes), in.getFileChecksum());
+        }
+    }
+
+    @Test
+    public void read_fileWithoutTrailer_returnsWholeFile() throws Exception {
+        Path file = write(CONTENT);
+
+        try (DataFileInputStream in = DataFileInputStream.open(file)) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+            in.verify();
+            assertEquals(checksumOf(CONTENT), in.getFileChecksum());
+        }
+    }
+
+    @Test
+    public void verify_damagedContent_throwsDataLoadingException() throws Exception {
+        byte[] fileBytes = DataFileChecksum.withTrailer(CONTENT);
+        fileBytes[5] ^= 1;
+        Path file = write(fileBytes);
+
+        try (DataFileInputStream in = DataFileInputStream.open(file)) {
+            // verifying reads whatever content is left
+            in.read();
+            assertThrows(DataLoadingException.class, in::verify);
+        }
+    }
+
+    private Path write(byte[] fileBytes) throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Files.write(file, fileBytes);
+        return file;
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
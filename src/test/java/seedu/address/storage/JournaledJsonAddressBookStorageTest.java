@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class JournaledJsonAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledJsonAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournaledJsonAddressBookStorage.getJournalPath(filePath);
+        storage = new JournaledJsonAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_singleEdit_appendsToJournalOnly() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        addressBook.setPerson(BENSON, new EmployeeBuilder(BENSON).withName("Benson Edited").build());
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_insertionsAndRemovals_keepsOrderAfterReplay() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(1, HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_manyInsertionsAtSamePlace_keepsOrderAfterReplay() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // each insertion halves the gap between the order keys of its neighbours, until a snapshot is needed
+        for (int i = 0; i < 40; i++) {
+            addressBook.addPerson(1, new EmployeeBuilder(CARL).withEmployeeId("id" + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertEquals(addressBook, readBack());
+        storage.compact();
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_anniversaryAdded_isJournaled() throws Exception {
+        Employee alice = new EmployeeBuilder(ALICE).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(journalPath);
+
+        Employee aliceWithExtra = new EmployeeBuilder(alice).build();
+        aliceWithExtra.getAnniversaries().add(new Anniversary(ALICE.getAnniversaries().get(0).getDate(),
+                ALICE.getAnniversaries().get(0).getType(), "Extra", "Extra anniversary"));
+        addressBook.setPerson(alice, aliceWithExtra);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(aliceWithExtra.getAnniversaries(), readBack().getEmployeeList().get(0).getAnniversaries());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedEmployees_writesNewSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // the journal only names the new snapshot
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_isMovedAside() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook editedByHand = new AddressBook(addressBook);
+        editedByHand.removePerson(BENSON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the data file is replaced behind the storage's back
+        new JsonAddressBookStorage(filePath).saveAddressBook(editedByHand);
+
+        assertEquals(editedByHand, readBack());
+        assertFalse(Files.exists(journalPath));
+        assertArrayEquals(journal, Files.readAllBytes(testFolder.resolve(journalPath.getFileName() + ".stale")));
+
+        // a later stale journal does not replace the earlier one
+        JournaledJsonAddressBookStorage reloaded = new JournaledJsonAddressBookStorage(filePath);
+        reloaded.readAddressBook();
+        reloaded.saveAddressBook(addressBook);
+        addressBook.removePerson(CARL);
+        reloaded.saveAddressBook(addressBook);
+        new JsonAddressBookStorage(filePath).saveAddressBook(editedByHand);
+        assertEquals(editedByHand, readBack());
+        assertTrue(Files.exists(testFolder.resolve(journalPath.getFileName() + ".stale2")));
+    }
+
+    @Test
+    public void compact_journalWithRecords_foldsJournalIntoSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(1, HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.readAllLines(journalPath).size() > 1);
+
+        storage.compact();
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // later edits are journaled against the new snapshot
+        byte[] snapshot = Files.readAllBytes(filePath);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void compact_nothingJournaled_keepsSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        storage.compact();
+        new JournaledJsonAddressBookStorage(filePath).compact();
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_dataFileWithoutJournal_startsJournalWithHeader() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        JournaledJsonAddressBookStorage reloaded = new JournaledJsonAddressBookStorage(filePath);
+        addressBook = new AddressBook(reloaded.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        reloaded.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_dataFileDeleted_writesNewSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.delete(filePath);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_isIgnored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "{\"op\":\"remove\",\"empl".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledJsonAddressBookStorage reloaded = new JournaledJsonAddressBookStorage(filePath);
+        assertEquals(addressBook, reloaded.readAddressBook().get());
+
+        // the next save starts afresh instead of appending after the incomplete record
+        reloaded.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_lastRecordCutInsideCharacter_isIgnored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        AddressBook edited = new AddressBook(addressBook);
+        edited.setPerson(BENSON, new EmployeeBuilder(BENSON).withJobPosition("Chargé de clientèle").build());
+        storage.saveAddressBook(edited);
+        byte[] appended = Files.readAllBytes(journalPath);
+        int cut = indexOf(appended, "é".getBytes(StandardCharsets.UTF_8)) + 1;
+        assertTrue(cut > journal.length);
+        Files.write(journalPath, Arrays.copyOf(appended, cut));
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_malformedCompleteRecord_throwsDataLoadingException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "{\"op\":\"rem\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledJsonAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledJsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -9,18 +10,26 @@ import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest");
 
     @TempDir
     public Path testFolder;
@@ -86,6 +95,61 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamedFile_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        for (AddressBook addressBook : List.of(getTypicalAddressBook(), new AddressBook())) {
+            jsonAddressBookStorage.saveAddressBook(addressBook);
+            byte[] expected = DataFileChecksum.withTrailer(JsonUtil.toJsonString(
+                    new JsonSerializableAddressBook(addressBook)).getBytes(StandardCharsets.UTF_8));
+            assertArrayEquals(expected, Files.readAllBytes(filePath));
+        }
+    }
+
+    @Test
+    public void readJson_sameAsBindingWholeFile() throws Exception {
+        Path typicalPersonsFile = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsWithoutAnniversaries.json");
+        AddressBook expected = JsonUtil.readJsonFile(typicalPersonsFile, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        try (InputStream in = Files.newInputStream(typicalPersonsFile)) {
+            assertEquals(expected, JsonAddressBookStorage.readJson(in));
+        }
+    }
+
+    @Test
+    public void readJson_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"))) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonAddressBookStorage.readJson(in));
+        }
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replaceFirst("Alice", "Alicf"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_handEditedFileWithoutChecksumLine_loads() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // an edit by hand removes the checksum line, as the user guide asks
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.lastIndexOf("// crc32=")));
+        assertEquals(getTypicalAddressBook(), jsonAddressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
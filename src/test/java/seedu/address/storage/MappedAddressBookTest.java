@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.storage.BinaryAddressBookStorageTest.assertSameWithAnniversaries;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+
+public class MappedAddressBookTest {
+
+    /** Where the first record of a snapshot of fewer than 128 employees starts. */
+    private static final int FIRST_RECORD_POSITION = 6;
+    /** The checksum of the string table and the record index, their positions and the checksum of the file. */
+    private static final int INDEX_END_TO_FILE_END = Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void map_typicalAddressBook_decodesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBook mapped = BinarySnapshotFormat.map(save(original));
+
+        assertEquals(original.getEmployeeList().size(), mapped.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            Employee employee = original.getEmployeeList().get(i);
+            assertEquals(employee.getEmployeeId().value, mapped.getEmployeeId(i));
+            assertEquals(employee.getName().fullName, mapped.getName(i));
+            assertEquals(i, mapped.indexOfEmployeeId(employee.getEmployeeId().value));
+        }
+        assertEquals(-1, mapped.indexOfEmployeeId("no such employee"));
+        assertEquals(0, mapped.getDecodedCount());
+    }
+
+    @Test
+    public void getEmployee_decodesOnce() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBook mapped = BinarySnapshotFormat.map(save(original));
+
+        Employee employee = mapped.getEmployee(2);
+        assertEquals(original.getEmployeeList().get(2), employee);
+        assertSame(employee, mapped.getEmployee(2));
+        assertSame(employee, mapped.getEmployeeList().get(2));
+        assertEquals(1, mapped.getDecodedCount());
+    }
+
+    @Test
+    public void getEmployeeList_typicalAddressBook_sameAsSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBook mapped = BinarySnapshotFormat.map(save(original));
+
+        assertSameWithAnniversaries(original, mapped);
+        assertEquals(original, new AddressBook(mapped));
+    }
+
+    @Test
+    public void getNextUpcomingDate_sameAsEmployee() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBook mapped = BinarySnapshotFormat.map(save(original));
+
+        List<LocalDate> todays = Arrays.asList(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 28),
+                LocalDate.of(2024, 2, 29), LocalDate.of(2024, 7, 15), LocalDate.of(2025, 12, 31));
+        for (LocalDate today : todays) {
+            for (int i = 0; i < mapped.size(); i++) {
+                assertEquals(original.getEmployeeList().get(i).getNextUpcomingDate(today),
+                        mapped.getNextUpcomingDate(i, today));
+            }
+        }
+        assertEquals(0, mapped.getDecodedCount());
+    }
+
+    @Test
+    public void getEmployee_damagedRecord_throwsUncheckedIoException() throws Exception {
+        Path filePath = save(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // A different character in the employee ID, which still decodes
+        bytes[FIRST_RECORD_POSITION + 1]++;
+        Files.write(filePath, bytes);
+
+        MappedAddressBook mapped = BinarySnapshotFormat.map(filePath);
+        assertThrows(UncheckedIOException.class, () -> mapped.getEmployee(0));
+        assertEquals(getTypicalAddressBook().getEmployeeList().get(1), mapped.getEmployee(1));
+    }
+
+    @Test
+    public void map_damagedRecordIndex_throwsDataLoadingException() throws Exception {
+        Path filePath = save(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // The last day of the last anniversary in the record index
+        bytes[bytes.length - INDEX_END_TO_FILE_END - 1]++;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> BinarySnapshotFormat.map(filePath));
+    }
+
+    @Test
+    public void map_jsonFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, BinarySnapshotFormat.MESSAGE_NOT_A_SNAPSHOT, () ->
+                BinarySnapshotFormat.map(filePath));
+    }
+
+    @Test
+    public void map_snapshotWithoutRecordIndex_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        byte[] bytes = new byte[17];
+        System.arraycopy(new byte[] {'H', 'R', 'B', 'S', 1}, 0, bytes, 0, 5);
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, String.format(BinarySnapshotFormat.MESSAGE_NOT_MAPPABLE, 1), () ->
+                BinarySnapshotFormat.map(filePath));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorage_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(save(original));
+
+        assertSameWithAnniversaries(original, storage.readAddressBook().get());
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("missing.bin"))
+                .readAddressBook().isPresent());
+    }
+
+    private Path save(AddressBook addressBook) throws IOException {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return filePath;
+    }
+}
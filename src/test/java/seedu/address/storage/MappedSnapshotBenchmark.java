@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures opening a mapped binary snapshot and reading a few employees from it against reading the whole
+ * snapshot. Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class MappedSnapshotBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 100;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void mappedSnapshot_comparedWithFullRead() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path filePath = testFolder.resolve("addressBook" + size + ".bin");
+            new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+            employees = null;
+            addressBook = null;
+
+            String full = measure(new BinaryAddressBookStorage(filePath), size, random);
+            String mapped = measure(new MappedAddressBookStorage(filePath), size, random);
+            System.out.printf("%,d employees: full read %s; mapped %s%n", size, full, mapped);
+        }
+    }
+
+    private static String measure(AddressBookStorage storage, int size, Random random) throws Exception {
+        long heapBefore = getUsedHeap();
+        long start = System.nanoTime();
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        long openNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            addressBook.getEmployeeList().get(random.nextInt(size));
+        }
+        long lookupNanos = System.nanoTime() - start;
+        long heapAfter = getUsedHeap();
+
+        assertEquals(size, addressBook.getEmployeeList().size());
+        return String.format("open %d ms, %d lookups %d us, heap %,d KiB", openNanos / 1_000_000, LOOKUPS,
+                lookupNanos / 1_000, (heapAfter - heapBefore) >> 10);
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
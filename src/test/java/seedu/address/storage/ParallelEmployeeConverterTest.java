@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class ParallelEmployeeConverterTest {
+
+    private static final int COUNT = 5 * ParallelEmployeeConverter.CHUNK_SIZE + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_manyChunks_keepsOrder() throws Exception {
+        List<Employee> employees = createEmployees();
+        try (ParallelEmployeeConverter converter = new ParallelEmployeeConverter(pool)) {
+            for (Employee employee : employees) {
+                converter.add(new JsonAdaptedPerson(employee));
+            }
+            assertEquals(employees, converter.finish());
+        }
+    }
+
+    @Test
+    public void finish_invalidEmployees_reportsFirst() {
+        List<JsonAdaptedPerson> persons = adapt(createEmployees());
+        persons.set(3000, withPhone(persons.get(3000), "+651234"));
+        persons.set(2000, withName(persons.get(2000), "R@chel##"));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> convert(persons));
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidEmployee_reportsDuplicate() {
+        List<JsonAdaptedPerson> persons = adapt(createEmployees());
+        persons.set(1500, persons.get(1200));
+        persons.set(1600, withPhone(persons.get(1600), "+651234"));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                convert(persons));
+
+        persons.set(1400, withPhone(persons.get(1400), "+651234"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> convert(persons));
+    }
+
+    private List<Employee> convert(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        try (ParallelEmployeeConverter converter = new ParallelEmployeeConverter(pool)) {
+            for (JsonAdaptedPerson person : persons) {
+                converter.add(person);
+            }
+            return converter.finish();
+        }
+    }
+
+    private static List<Employee> createEmployees() {
+        Employee template = new EmployeeBuilder().build();
+        List<Employee> employees = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            employees.add(new EmployeeBuilder(template).withEmployeeId(new UUID(0, i).toString()).build());
+        }
+        return employees;
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Employee> employees) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(employees.size());
+        employees.forEach(employee -> persons.add(new JsonAdaptedPerson(employee)));
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withName(JsonAdaptedPerson person, String name) {
+        return new JsonAdaptedPerson(person.getEmployeeId(), name, person.getPhone(), person.getEmail(),
+                person.getJobposition(), person.getTags(), person.getAnniversaries());
+    }
+
+    private static JsonAdaptedPerson withPhone(JsonAdaptedPerson person, String phone) {
+        return new JsonAdaptedPerson(person.getEmployeeId(), person.getName(), phone, person.getEmail(),
+                person.getJobposition(), person.getTags(), person.getAnniversaries());
+    }
+}
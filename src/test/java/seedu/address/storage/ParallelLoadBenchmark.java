@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures loading the data file with the employees converted on pools of increasing parallelism.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class ParallelLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_scalesWithParallelism() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path filePath = testFolder.resolve("addressBook" + size + ".json");
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+            StringBuilder timings = new StringBuilder();
+            for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try (InputStream in = Files.newInputStream(filePath)) {
+                    long start = System.nanoTime();
+                    AddressBook loaded = JsonAddressBookStorage.readJson(in, pool);
+                    long nanos = System.nanoTime() - start;
+                    assertEquals(size, loaded.getEmployeeList().size());
+                    timings.append(String.format(", %d threads %d ms", parallelism, nanos / 1_000_000));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+            System.out.printf("%,d employees%s%n", size, timings);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.assertSameWithAnniversaries;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getManifestPath() {
+        assertEquals(Paths.get("data", "Hreers.shards", "manifest.json"), ShardedAddressBookStorage.getManifestPath(
+                Paths.get("data", "Hreers.json")));
+        assertEquals(Paths.get("data", "Hreers.shards", "manifest.json"), ShardedAddressBookStorage.getManifestPath(
+                Paths.get("data", "Hreers")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("manifest.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertSameWithAnniversaries(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        // employees inserted before, between and after the ones saved
+        original = new AddressBook(original);
+        original.addPerson(0, HOON);
+        original.addPerson(3, IDA);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSameWithAnniversaries(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_oneEmployeeAdded_rewritesOneShard() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> before = getShardFiles();
+        assertEquals(SHARD_COUNT, before.size());
+
+        addressBook = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countReplaced(before, getShardFiles()));
+        assertSameWithAnniversaries(addressBook, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+
+        // an unchanged address book rewrites nothing
+        before = getShardFiles();
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(before, getShardFiles());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_rewritesOneShard() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Set<String> before = getShardFiles();
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, countReplaced(before, getShardFiles()));
+        assertSameWithAnniversaries(addressBook, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_notReadFirst_deletesReplacedShards() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        // as when the address book was loaded from a cache instead
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        assertEquals(SHARD_COUNT, getShardFiles().size());
+        assertSameWithAnniversaries(addressBook, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedRead_keepsUnreadableShards() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Path shardPath = testFolder.resolve(getShardFiles().iterator().next());
+        byte[] bytes = Files.readAllBytes(shardPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(shardPath, bytes);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        storage.saveAddressBook(new AddressBook());
+        assertTrue(Files.exists(shardPath));
+        assertEquals(2 * SHARD_COUNT, getShardFiles().size());
+    }
+
+    @Test
+    public void readAddressBook_damagedShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Path shardPath = testFolder.resolve(getShardFiles().iterator().next());
+        byte[] bytes = Files.readAllBytes(shardPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(shardPath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_shardFromEarlierSave_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> before = getShardFiles();
+        byte[][] earlierShards = new byte[before.size()][];
+        int i = 0;
+        for (String shardFile : before) {
+            earlierShards[i++] = Files.readAllBytes(testFolder.resolve(shardFile));
+        }
+
+        addressBook = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Set<String> added = new HashSet<>(getShardFiles());
+        added.removeAll(before);
+        Path rewritten = testFolder.resolve(added.iterator().next());
+        String shardPrefix = rewritten.getFileName().toString().substring(0, "shard-000".length());
+        i = 0;
+        for (String shardFile : before) {
+            if (shardFile.startsWith(shardPrefix)) {
+                // a complete shard file, with a valid checksum line, that the manifest does not list
+                Files.write(rewritten, earlierShards[i]);
+            }
+            i++;
+        }
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedManifest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 4] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void getShard_sameEmployeeId_sameShard() {
+        String employeeId = HOON.getEmployeeId().value;
+        int shard = ShardedAddressBookStorage.getShard(employeeId, SHARD_COUNT);
+        assertTrue(shard >= 0 && shard < SHARD_COUNT);
+        assertEquals(shard, ShardedAddressBookStorage.getShard(new String(employeeId.toCharArray()), SHARD_COUNT));
+    }
+
+    private Set<String> getShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("shard-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Returns the number of shard files in {@code before} that were replaced by a file in {@code after}.
+     */
+    private static int countReplaced(Set<String> before, Set<String> after) {
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        assertEquals(removed.size(), added.size());
+        return added.size();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures saving a single edit to a sharded address book, and loading it, against a JSON data file.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class ShardedStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void shardedStorage_comparedWithJson() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path jsonPath = testFolder.resolve("addressBook" + size + ".json");
+            Path manifestPath = ShardedAddressBookStorage.getManifestPath(jsonPath);
+            JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath);
+            ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(manifestPath);
+
+            long start = System.nanoTime();
+            jsonStorage.saveAddressBook(addressBook);
+            long jsonSaveNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            shardedStorage.saveAddressBook(addressBook);
+            long fullSaveNanos = System.nanoTime() - start;
+
+            Set<Path> before = getShardFiles(manifestPath);
+            addressBook = new AddressBook(addressBook);
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            addressBook.addPerson(new EmployeeBuilder(template).withEmployeeId(id).build());
+            start = System.nanoTime();
+            shardedStorage.saveAddressBook(addressBook);
+            long editSaveNanos = System.nanoTime() - start;
+            Set<Path> written = getShardFiles(manifestPath);
+            written.removeAll(before);
+            long writtenBytes = Files.size(manifestPath);
+            for (Path file : written) {
+                writtenBytes += Files.size(file);
+            }
+
+            start = System.nanoTime();
+            int jsonLoaded = jsonStorage.readAddressBook().get().getEmployeeList().size();
+            long jsonLoadNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            int shardedLoaded = new ShardedAddressBookStorage(manifestPath).readAddressBook().get()
+                    .getEmployeeList().size();
+            long shardedLoadNanos = System.nanoTime() - start;
+
+            assertEquals(size, jsonLoaded);
+            assertEquals(size + 1, shardedLoaded);
+            System.out.printf("%,d employees: save JSON %d ms, shards %d ms; one edit %d ms writing %,d of %,d bytes;"
+                    + " load JSON %d ms, shards %d ms%n", size, jsonSaveNanos / 1_000_000, fullSaveNanos / 1_000_000,
+                    editSaveNanos / 1_000_000, writtenBytes, Files.size(jsonPath), jsonLoadNanos / 1_000_000,
+                    shardedLoadNanos / 1_000_000);
+        }
+    }
+
+    private static Set<Path> getShardFiles(Path manifestPath) throws IOException {
+        try (Stream<Path> files = Files.list(manifestPath.getParent())) {
+            return files.filter(file -> file.getFileName().toString().startsWith("shard-"))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+}
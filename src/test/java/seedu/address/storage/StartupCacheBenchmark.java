@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures loading an unchanged data file from its cache against parsing and validating the data file.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class StartupCacheBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void cachedLoad_comparedWithDataFile() throws Exception {
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path filePath = testFolder.resolve("addressBook" + size + ".json");
+            CachedAddressBookStorage storage = new CachedAddressBookStorage(
+                    new JournaledJsonAddressBookStorage(filePath));
+            storage.saveAddressBook(addressBook);
+
+            long start = System.nanoTime();
+            storage.saveCache();
+            long saveCacheNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int loaded = new JournaledJsonAddressBookStorage(filePath).readAddressBook().get()
+                    .getEmployeeList().size();
+            long dataFileNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int cached = new CachedAddressBookStorage(new JournaledJsonAddressBookStorage(filePath))
+                    .readAddressBook().get().getEmployeeList().size();
+            long cacheNanos = System.nanoTime() - start;
+
+            assertEquals(size, loaded);
+            assertEquals(size, cached);
+            System.out.printf("%,d employees: data file %d ms; cache %d ms (saved in %d ms)%n", size,
+                    dataFileNanos / 1_000_000, cacheNanos / 1_000_000, saveCacheNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures loading the data file by streaming employees from it, against reading it into a string and binding
+ * the whole address book first. Memory is reported as the bytes allocated by the loading thread.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class StreamingLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 500_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void streamingLoad_comparedWithStringLoad() throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path filePath = testFolder.resolve("addressBook" + size + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+            storage.saveAddressBook(addressBook);
+
+            long allocated = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            byte[] content = DataFileChecksum.verifyAndStrip(Files.readAllBytes(filePath));
+            AddressBook stringLoaded = JsonUtil.fromJsonString(new String(content, UTF_8),
+                    JsonSerializableAddressBook.class).toModelType();
+            long stringNanos = System.nanoTime() - start;
+            long stringBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+            allocated = threads.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            ReadOnlyAddressBook streamLoaded = storage.readAddressBook().get();
+            long streamNanos = System.nanoTime() - start;
+            long streamBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+            assertEquals(stringLoaded.getEmployeeList().size(), streamLoaded.getEmployeeList().size());
+            System.out.printf("%,d employees (%,d MiB file): string load %d ms (%,d MiB allocated), "
+                            + "streaming load %d ms (%,d MiB allocated)%n",
+                    size, Files.size(filePath) >> 20, stringNanos / 1_000_000, stringBytes >> 20,
+                    streamNanos / 1_000_000, streamBytes >> 20);
+        }
+    }
+}
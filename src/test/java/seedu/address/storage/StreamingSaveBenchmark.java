@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Measures saving the data file by streaming employees to it, against serializing the whole address book to a
+ * string first. Memory is reported as the bytes allocated by the saving thread.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class StreamingSaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void streamingSave_comparedWithStringSave() throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Employee template = new EmployeeBuilder().build();
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String id = new UUID(random.nextLong(), random.nextLong()).toString();
+                employees.add(new EmployeeBuilder(template).withEmployeeId(id).build());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setEmployees(employees);
+            Path stringPath = testFolder.resolve("string" + size + ".json");
+            Path streamPath = testFolder.resolve("stream" + size + ".json");
+
+            long allocated = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            FileUtil.writeToFileAtomically(stringPath, DataFileChecksum.withTrailer(
+                    JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)).getBytes(UTF_8)));
+            long stringNanos = System.nanoTime() - start;
+            long stringBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+            allocated = threads.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            new JsonAddressBookStorage(streamPath).saveAddressBook(addressBook);
+            long streamNanos = System.nanoTime() - start;
+            long streamBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+            assertEquals(Files.size(stringPath), Files.size(streamPath));
+            System.out.printf("%,d employees: string save %d ms (%,d MiB allocated), "
+                            + "streaming save %d ms (%,d MiB allocated)%n",
+                    size, stringNanos / 1_000_000, stringBytes >> 20, streamNanos / 1_000_000, streamBytes >> 20);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @Test
+    public void submit_burstDuringWrite_writesLatestOnceAfterwards() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                super.saveAddressBook(addressBook);
+                if (saved.size() == 1) {
+                    firstWriteStarted.countDown();
+                    awaitUninterruptibly(releaseFirstWrite);
+                }
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, Duration.ZERO);
+
+        AddressBook first = new AddressBook();
+        saver.submit(first, 1);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+        saver.submit(second, 2);
+        saver.submit(third, 3);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+        assertEquals(3, saver.getSavedVersion());
+    }
+
+    @Test
+    public void flush_pendingAddressBook_writesWithoutWaitingForDelay() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, Duration.ofHours(1));
+        AddressBook addressBook = new AddressBook();
+        saver.submit(addressBook, 0);
+        assertEquals(0, saver.getSubmittedVersion());
+        assertEquals(WriteBehindAddressBookSaver.NO_VERSION, saver.getSavedVersion());
+
+        saver.flush();
+        assertEquals(List.of(addressBook), storage.saved);
+        assertEquals(List.of(1), storage.compactedAfter);
+    }
+
+    @Test
+    public void flush_failedWrite_reportsFailureOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, Duration.ZERO);
+        saver.submit(new AddressBook(), 0);
+
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertEquals(WriteBehindAddressBookSaver.NO_VERSION, saver.getSavedVersion());
+        saver.flush();
+        assertEquals(Optional.empty(), saver.pollFailure());
+    }
+
+    @Test
+    public void pollFailure_laterWriteSucceeds_reportsEarlierFailure() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                super.saveAddressBook(addressBook);
+                if (saved.size() == 1) {
+                    throw new IOException("transient");
+                }
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, Duration.ZERO);
+        saver.submit(new AddressBook(), 0);
+        saver.awaitWrites();
+        saver.submit(new AddressBook(), 1);
+        saver.awaitWrites();
+        assertEquals(1, saver.getSavedVersion());
+
+        assertEquals("transient", saver.pollFailure().get().getMessage());
+        assertEquals(Optional.empty(), saver.pollFailure());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A storage that records the address books it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        protected final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        /** The number of address books saved before each compaction. */
+        protected final List<Integer> compactedAfter = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void compact() {
+            compactedAfter.add(saved.size());
+        }
+    }
+}